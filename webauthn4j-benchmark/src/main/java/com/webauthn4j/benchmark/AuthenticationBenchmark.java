@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.test.client.ClientPlatform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WebAuthnManager#validate(AuthenticationRequest, AuthenticationParameters)}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthenticationBenchmark {
+
+    @Param({
+            BenchmarkFixtures.FORMAT_PACKED,
+            BenchmarkFixtures.FORMAT_FIDO_U2F
+    })
+    public String authenticatorType;
+
+    private WebAuthnManager webAuthnManager;
+    private AuthenticationRequest authenticationRequest;
+    private AuthenticationParameters authenticationParameters;
+    private Authenticator authenticator;
+    private long initialCounter;
+
+    @Setup
+    public void setup() {
+        ClientPlatform clientPlatform = BenchmarkFixtures.createClientPlatform(authenticatorType);
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> registrationCredential =
+                BenchmarkFixtures.create(clientPlatform, BenchmarkFixtures.FORMAT_NONE, new DefaultChallenge());
+
+        Challenge challenge = new DefaultChallenge();
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> authenticationCredential =
+                BenchmarkFixtures.get(clientPlatform, registrationCredential.getRawId(), challenge);
+
+        webAuthnManager = WebAuthnManager.createNonStrictWebAuthnManager(BenchmarkFixtures.getObjectConverter());
+        authenticationRequest = BenchmarkFixtures.createAuthenticationRequest(authenticationCredential);
+        authenticator = BenchmarkFixtures.createAuthenticator(registrationCredential);
+        initialCounter = authenticator.getCounter();
+        authenticationParameters = BenchmarkFixtures.createAuthenticationParameters(challenge, authenticator);
+    }
+
+    @Benchmark
+    public AuthenticationData parse() {
+        return webAuthnManager.parse(authenticationRequest);
+    }
+
+    @Benchmark
+    public AuthenticationData validate() {
+        // the same assertion is replayed, so the stored counter is rewound to keep it acceptable
+        authenticator.setCounter(initialCounter);
+        return webAuthnManager.validate(authenticationRequest, authenticationParameters);
+    }
+}
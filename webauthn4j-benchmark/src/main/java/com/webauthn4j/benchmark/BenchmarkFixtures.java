@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.anchor.TrustAnchorsResolver;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.AuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.webauthn.*;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidkey.AndroidKeyAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidsafetynet.AndroidSafetyNetAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.packed.PackedAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.tpm.TPMAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.u2f.FIDOU2FAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.TrustAnchorCertPathTrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessValidator;
+
+import java.util.Collections;
+
+/**
+ * Builds WebAuthn ceremony fixtures for benchmarks with the model authenticators provided by webauthn4j-test
+ */
+class BenchmarkFixtures {
+
+    static final String FORMAT_NONE = "none";
+    static final String FORMAT_PACKED = "packed";
+    static final String FORMAT_FIDO_U2F = "fido-u2f";
+    static final String FORMAT_TPM = "tpm";
+    static final String FORMAT_ANDROID_KEY = "android-key";
+    static final String FORMAT_ANDROID_SAFETYNET = "android-safetynet";
+
+    static final String RP_ID = "example.com";
+    static final Origin ORIGIN = new Origin("http://localhost");
+
+    private static final ObjectConverter objectConverter = new ObjectConverter();
+    private static final AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+    private static final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter
+            = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+    private BenchmarkFixtures() {
+    }
+
+    static ObjectConverter getObjectConverter() {
+        return objectConverter;
+    }
+
+    static ClientPlatform createClientPlatform(String format) {
+        AuthenticatorAdaptor authenticatorAdaptor;
+        switch (format) {
+            case FORMAT_NONE:
+            case FORMAT_PACKED:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new PackedAuthenticator());
+                break;
+            case FORMAT_FIDO_U2F:
+                authenticatorAdaptor = new FIDOU2FAuthenticatorAdaptor();
+                break;
+            case FORMAT_TPM:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new TPMAuthenticator());
+                break;
+            case FORMAT_ANDROID_KEY:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new AndroidKeyAuthenticator());
+                break;
+            case FORMAT_ANDROID_SAFETYNET:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new AndroidSafetyNetAuthenticator());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown attestation statement format: " + format);
+        }
+        return new ClientPlatform(ORIGIN, authenticatorAdaptor);
+    }
+
+    static WebAuthnManager createWebAuthnManager(String format) {
+        AttestationStatementValidator attestationStatementValidator;
+        TrustAnchorsResolver trustAnchorsResolver = TestAttestationUtil.createTrustAnchorProviderWith3tierTestRootCACertificate();
+        switch (format) {
+            case FORMAT_NONE:
+                attestationStatementValidator = new NoneAttestationStatementValidator();
+                break;
+            case FORMAT_PACKED:
+                attestationStatementValidator = new PackedAttestationStatementValidator();
+                break;
+            case FORMAT_FIDO_U2F:
+                attestationStatementValidator = new FIDOU2FAttestationStatementValidator();
+                trustAnchorsResolver = TestAttestationUtil.createTrustAnchorProviderWith2tierTestRootCACertificate();
+                break;
+            case FORMAT_TPM:
+                attestationStatementValidator = new TPMAttestationStatementValidator();
+                break;
+            case FORMAT_ANDROID_KEY:
+                attestationStatementValidator = new AndroidKeyAttestationStatementValidator();
+                break;
+            case FORMAT_ANDROID_SAFETYNET:
+                AndroidSafetyNetAttestationStatementValidator androidSafetyNetAttestationStatementValidator = new AndroidSafetyNetAttestationStatementValidator();
+                // the fixture is created once per trial, so the response must stay acceptable for the whole trial
+                androidSafetyNetAttestationStatementValidator.setBackwardThreshold(Integer.MAX_VALUE);
+                attestationStatementValidator = androidSafetyNetAttestationStatementValidator;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown attestation statement format: " + format);
+        }
+        return new WebAuthnManager(
+                Collections.singletonList(attestationStatementValidator),
+                new TrustAnchorCertPathTrustworthinessValidator(trustAnchorsResolver),
+                new DefaultSelfAttestationTrustworthinessValidator(),
+                objectConverter
+        );
+    }
+
+    static PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> create(ClientPlatform clientPlatform, String format, Challenge challenge) {
+        AttestationConveyancePreference attestationConveyancePreference =
+                FORMAT_NONE.equals(format) ? AttestationConveyancePreference.NONE : AttestationConveyancePreference.DIRECT;
+        AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
+                new AuthenticatorSelectionCriteria(
+                        AuthenticatorAttachment.CROSS_PLATFORM,
+                        true,
+                        UserVerificationRequirement.REQUIRED);
+        PublicKeyCredentialParameters publicKeyCredentialParameters = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+        PublicKeyCredentialCreationOptions credentialCreationOptions
+                = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(RP_ID, "example.com"),
+                new PublicKeyCredentialUserEntity(),
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters),
+                null,
+                Collections.emptyList(),
+                authenticatorSelectionCriteria,
+                attestationConveyancePreference,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        return clientPlatform.create(credentialCreationOptions);
+    }
+
+    static RegistrationRequest createRegistrationRequest(PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential) {
+        AuthenticatorAttestationResponse authenticatorAttestationResponse = credential.getAuthenticatorResponse();
+        return new RegistrationRequest(
+                authenticatorAttestationResponse.getAttestationObject(),
+                authenticatorAttestationResponse.getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                Collections.emptySet()
+        );
+    }
+
+    static RegistrationParameters createRegistrationParameters(Challenge challenge) {
+        return new RegistrationParameters(
+                new ServerProperty(ORIGIN, RP_ID, challenge, null),
+                false,
+                true,
+                Collections.emptyList()
+        );
+    }
+
+    static PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> get(ClientPlatform clientPlatform, byte[] credentialId, Challenge challenge) {
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                RP_ID,
+                Collections.singletonList(new PublicKeyCredentialDescriptor(PublicKeyCredentialType.PUBLIC_KEY, credentialId, Collections.emptySet())),
+                UserVerificationRequirement.DISCOURAGED,
+                null
+        );
+        return clientPlatform.get(credentialRequestOptions);
+    }
+
+    static AuthenticationRequest createAuthenticationRequest(PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential) {
+        AuthenticatorAssertionResponse authenticatorAssertionResponse = credential.getAuthenticatorResponse();
+        AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensionResults = credential.getClientExtensionResults();
+        return new AuthenticationRequest(
+                credential.getRawId(),
+                authenticatorAssertionResponse.getAuthenticatorData(),
+                authenticatorAssertionResponse.getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(clientExtensionResults),
+                authenticatorAssertionResponse.getSignature()
+        );
+    }
+
+    static Authenticator createAuthenticator(PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential) {
+        AttestationObject attestationObject = attestationObjectConverter.convert(credential.getAuthenticatorResponse().getAttestationObject());
+        return TestDataUtil.createAuthenticator(attestationObject);
+    }
+
+    static AuthenticationParameters createAuthenticationParameters(Challenge challenge, Authenticator authenticator) {
+        return new AuthenticationParameters(
+                new ServerProperty(ORIGIN, RP_ID, challenge, null),
+                authenticator,
+                false,
+                true,
+                Collections.emptyList()
+        );
+    }
+}
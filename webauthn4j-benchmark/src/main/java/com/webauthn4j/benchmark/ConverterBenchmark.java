@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.*;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.PublicKeyCredential;
+import com.webauthn4j.data.AuthenticatorAttestationResponse;
+import com.webauthn4j.data.RegistrationRequest;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.test.client.ClientPlatform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the individual converters used to parse registration and authentication requests
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    private CollectedClientDataConverter collectedClientDataConverter;
+    private AttestationObjectConverter attestationObjectConverter;
+    private AuthenticatorDataConverter authenticatorDataConverter;
+    private AttestedCredentialDataConverter attestedCredentialDataConverter;
+    private AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
+
+    private byte[] clientDataJSON;
+    private byte[] attestationObject;
+    private byte[] attestedCredentialData;
+    private byte[] authenticatorData;
+    private String clientExtensionsJSON;
+
+    @Setup
+    public void setup() {
+        ObjectConverter objectConverter = BenchmarkFixtures.getObjectConverter();
+        collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+        attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+        authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
+        attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
+        authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+        ClientPlatform clientPlatform = BenchmarkFixtures.createClientPlatform(BenchmarkFixtures.FORMAT_PACKED);
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> registrationCredential =
+                BenchmarkFixtures.create(clientPlatform, BenchmarkFixtures.FORMAT_PACKED, new DefaultChallenge());
+        RegistrationRequest registrationRequest = BenchmarkFixtures.createRegistrationRequest(registrationCredential);
+        AuthenticationRequest authenticationRequest = BenchmarkFixtures.createAuthenticationRequest(
+                BenchmarkFixtures.get(clientPlatform, registrationCredential.getRawId(), new DefaultChallenge()));
+
+        clientDataJSON = authenticationRequest.getClientDataJSON();
+        attestationObject = registrationRequest.getAttestationObject();
+        attestedCredentialData = authenticatorDataConverter.extractAttestedCredentialData(attestationObjectConverter.extractAuthenticatorData(attestationObject));
+        authenticatorData = authenticationRequest.getAuthenticatorData();
+        clientExtensionsJSON = authenticationRequest.getClientExtensionsJSON();
+    }
+
+    @Benchmark
+    public CollectedClientData convertCollectedClientData() {
+        return collectedClientDataConverter.convert(clientDataJSON);
+    }
+
+    @Benchmark
+    public AttestationObject convertAttestationObject() {
+        return attestationObjectConverter.convert(attestationObject);
+    }
+
+    @Benchmark
+    public AttestedCredentialData convertAttestedCredentialData() {
+        return attestedCredentialDataConverter.convert(attestedCredentialData);
+    }
+
+    @Benchmark
+    public AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> convertAuthenticatorData() {
+        return authenticatorDataConverter.convert(authenticatorData);
+    }
+
+    @Benchmark
+    public AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> convertClientExtensions() {
+        return authenticationExtensionsClientOutputsConverter.convert(clientExtensionsJSON);
+    }
+}
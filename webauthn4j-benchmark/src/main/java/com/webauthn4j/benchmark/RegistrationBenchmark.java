@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.data.PublicKeyCredential;
+import com.webauthn4j.data.AuthenticatorAttestationResponse;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.RegistrationParameters;
+import com.webauthn4j.data.RegistrationRequest;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.test.client.ClientPlatform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WebAuthnManager#validate(RegistrationRequest, RegistrationParameters)} per attestation statement format
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistrationBenchmark {
+
+    @Param({
+            BenchmarkFixtures.FORMAT_NONE,
+            BenchmarkFixtures.FORMAT_PACKED,
+            BenchmarkFixtures.FORMAT_FIDO_U2F,
+            BenchmarkFixtures.FORMAT_TPM,
+            BenchmarkFixtures.FORMAT_ANDROID_KEY,
+            BenchmarkFixtures.FORMAT_ANDROID_SAFETYNET
+    })
+    public String format;
+
+    private WebAuthnManager webAuthnManager;
+    private RegistrationRequest registrationRequest;
+    private RegistrationParameters registrationParameters;
+
+    @Setup
+    public void setup() {
+        Challenge challenge = new DefaultChallenge();
+        ClientPlatform clientPlatform = BenchmarkFixtures.createClientPlatform(format);
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = BenchmarkFixtures.create(clientPlatform, format, challenge);
+
+        webAuthnManager = BenchmarkFixtures.createWebAuthnManager(format);
+        registrationRequest = BenchmarkFixtures.createRegistrationRequest(credential);
+        registrationParameters = BenchmarkFixtures.createRegistrationParameters(challenge);
+    }
+
+    @Benchmark
+    public RegistrationData parse() {
+        return webAuthnManager.parse(registrationRequest);
+    }
+
+    @Benchmark
+    public RegistrationData validate() {
+        return webAuthnManager.validate(registrationRequest, registrationParameters);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Default executors of the asynchronous validation API. They are created on first use and run on daemon threads.
+ * <p>
+ * Both the number of threads and the number of queued tasks are bounded, so that an overload is reported by failing
+ * the returned futures with {@link RejectedExecutionException} rather than by an ever-growing backlog.
+ */
+class ValidationExecutors {
+
+    private static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+    private static final int MAX_BLOCKING_THREADS = Math.max(8, AVAILABLE_PROCESSORS * 4);
+    private static final long BLOCKING_KEEP_ALIVE_SECONDS = 60;
+
+    private ValidationExecutors() {
+    }
+
+    /**
+     * Returns the executor for CPU-bound validation, with as many threads as available processors
+     *
+     * @return executor
+     */
+    static Executor cpuBound() {
+        return CpuBoundExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the executor for validation which may block on I/O, e.g. loading trust anchors or metadata.
+     * It has more threads than processors to cover the time spent blocked, and idle threads are released.
+     *
+     * @return executor
+     */
+    static Executor blocking() {
+        return BlockingExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * Runs the supplier on the executor. A task rejected by the executor completes the future exceptionally
+     * instead of throwing on the calling thread.
+     */
+    static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    private static ThreadFactory createThreadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return command -> {
+            Thread thread = new Thread(command, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class CpuBoundExecutorHolder {
+
+        private static final ExecutorService INSTANCE = new ThreadPoolExecutor(
+                AVAILABLE_PROCESSORS, AVAILABLE_PROCESSORS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(AVAILABLE_PROCESSORS * QUEUE_CAPACITY_PER_THREAD),
+                createThreadFactory("webauthn4j-validation-"));
+
+        private CpuBoundExecutorHolder() {
+        }
+    }
+
+    private static class BlockingExecutorHolder {
+
+        private static final ExecutorService INSTANCE = createBlockingExecutor();
+
+        private BlockingExecutorHolder() {
+        }
+
+        private static ExecutorService createBlockingExecutor() {
+            // ThreadPoolExecutor only grows beyond its core size once the queue is full, so the core size is the cap
+            // and idle core threads time out instead
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    MAX_BLOCKING_THREADS, MAX_BLOCKING_THREADS, BLOCKING_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(MAX_BLOCKING_THREADS * QUEUE_CAPACITY_PER_THREAD),
+                    createThreadFactory("webauthn4j-blocking-validation-"));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
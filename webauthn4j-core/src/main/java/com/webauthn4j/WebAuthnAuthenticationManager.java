@@ -22,6 +22,7 @@ import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.AuthenticationData;
 import com.webauthn4j.data.AuthenticationParameters;
 import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.AuthenticationResult;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
@@ -30,10 +31,16 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutput
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.AuthenticationDataValidator;
 import com.webauthn4j.validator.CustomAuthenticationValidator;
+import com.webauthn4j.validator.ValidationStage;
+import com.webauthn4j.validator.WebAuthnMetrics;
 import com.webauthn4j.validator.exception.ValidationException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class WebAuthnAuthenticationManager {
 
@@ -46,6 +53,8 @@ public class WebAuthnAuthenticationManager {
 
     private final AuthenticationDataValidator authenticationDataValidator;
 
+    private Executor asyncValidationExecutor = ValidationExecutors.cpuBound();
+
     public WebAuthnAuthenticationManager(List<CustomAuthenticationValidator> customAuthenticationValidators, ObjectConverter objectConverter) {
         AssertUtil.notNull(customAuthenticationValidators, "customAuthenticationValidators must not be null");
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
@@ -67,6 +76,19 @@ public class WebAuthnAuthenticationManager {
 
     @SuppressWarnings("squid:S1130")
     public AuthenticationData parse(AuthenticationRequest authenticationRequest) throws DataConversionException {
+        WebAuthnMetrics webAuthnMetrics = authenticationDataValidator.getWebAuthnMetrics();
+        long start = System.nanoTime();
+        try {
+            return parseAuthenticationRequest(authenticationRequest);
+        } catch (RuntimeException e) {
+            webAuthnMetrics.recordFailure(ValidationStage.PARSE, e);
+            throw e;
+        } finally {
+            webAuthnMetrics.recordStage(ValidationStage.PARSE, System.nanoTime() - start);
+        }
+    }
+
+    private AuthenticationData parseAuthenticationRequest(AuthenticationRequest authenticationRequest) {
 
         byte[] credentialId = authenticationRequest.getCredentialId();
         byte[] signature = authenticationRequest.getSignature();
@@ -94,6 +116,8 @@ public class WebAuthnAuthenticationManager {
 
     @SuppressWarnings("squid:S1130")
     public AuthenticationData validate(AuthenticationRequest authenticationRequest, AuthenticationParameters authenticationParameters) throws DataConversionException, ValidationException {
+        // reject requests with wrong rpIdHash or flags before paying for parsing
+        authenticationDataValidator.validateAuthenticatorDataBytes(authenticationRequest.getAuthenticatorData(), authenticationParameters);
         AuthenticationData authenticationData = parse(authenticationRequest);
         validate(authenticationData, authenticationParameters);
         return authenticationData;
@@ -105,7 +129,76 @@ public class WebAuthnAuthenticationManager {
         return authenticationData;
     }
 
+    /**
+     * Parses and validates the request on the async validation executor, so that the caller, e.g. an event loop, is not blocked
+     *
+     * @param authenticationRequest    authentication request
+     * @param authenticationParameters authentication parameters
+     * @return future completed with the parsed data, or exceptionally with the parse or validation failure
+     */
+    public CompletableFuture<AuthenticationData> validateAsync(AuthenticationRequest authenticationRequest, AuthenticationParameters authenticationParameters) {
+        return ValidationExecutors.supplyAsync(() -> validate(authenticationRequest, authenticationParameters), asyncValidationExecutor);
+    }
+
+    public CompletableFuture<AuthenticationData> validateAsync(AuthenticationData authenticationData, AuthenticationParameters authenticationParameters) {
+        return ValidationExecutors.supplyAsync(() -> validate(authenticationData, authenticationParameters), asyncValidationExecutor);
+    }
+
+    /**
+     * Validates a batch of authentication requests. Requests are parsed on the calling thread, and signatures are
+     * verified on the signature validation executor of the {@link AuthenticationDataValidator}.
+     * A request which fails to be parsed or validated is reported in its result and does not fail the batch.
+     *
+     * @param authenticationRequests       authentication requests
+     * @param authenticationParametersList authentication parameters for each request, in the same order
+     * @return results in the same order as the requests
+     */
+    public List<AuthenticationResult> validateAll(List<AuthenticationRequest> authenticationRequests, List<AuthenticationParameters> authenticationParametersList) {
+        AssertUtil.notNull(authenticationRequests, "authenticationRequests must not be null");
+        AssertUtil.notNull(authenticationParametersList, "authenticationParametersList must not be null");
+        AssertUtil.isTrue(authenticationRequests.size() == authenticationParametersList.size(), "authenticationRequests and authenticationParametersList must have the same size");
+
+        int size = authenticationRequests.size();
+        AuthenticationResult[] results = new AuthenticationResult[size];
+        List<Integer> parsedIndexes = new ArrayList<>(size);
+        List<AuthenticationData> parsedAuthenticationDataList = new ArrayList<>(size);
+        List<AuthenticationParameters> parsedAuthenticationParametersList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            AuthenticationRequest authenticationRequest = authenticationRequests.get(i);
+            AuthenticationParameters authenticationParameters = authenticationParametersList.get(i);
+            try {
+                authenticationDataValidator.validateAuthenticatorDataBytes(authenticationRequest.getAuthenticatorData(), authenticationParameters);
+                parsedAuthenticationDataList.add(parse(authenticationRequest));
+                parsedAuthenticationParametersList.add(authenticationParameters);
+                parsedIndexes.add(i);
+            } catch (RuntimeException e) {
+                results[i] = new AuthenticationResult(null, e);
+            }
+        }
+
+        List<AuthenticationResult> validated = authenticationDataValidator.validateAll(parsedAuthenticationDataList, parsedAuthenticationParametersList);
+        for (int i = 0; i < validated.size(); i++) {
+            results[parsedIndexes.get(i)] = validated.get(i);
+        }
+        return Arrays.asList(results);
+    }
+
     public AuthenticationDataValidator getAuthenticationDataValidator() {
         return authenticationDataValidator;
     }
+
+    public Executor getAsyncValidationExecutor() {
+        return asyncValidationExecutor;
+    }
+
+    /**
+     * Sets the executor {@code validateAsync} runs on. Authentication is CPU-bound, so it defaults to a shared pool
+     * bounded to the number of available processors, with a bounded queue.
+     *
+     * @param asyncValidationExecutor executor
+     */
+    public void setAsyncValidationExecutor(Executor asyncValidationExecutor) {
+        AssertUtil.notNull(asyncValidationExecutor, "asyncValidationExecutor must not be null");
+        this.asyncValidationExecutor = asyncValidationExecutor;
+    }
 }
@@ -39,6 +39,7 @@ import com.webauthn4j.validator.exception.ValidationException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class WebAuthnManager {
 
@@ -158,6 +159,14 @@ public class WebAuthnManager {
         return this.webAuthnRegistrationManager.validate(registrationData, registrationParameters);
     }
 
+    public CompletableFuture<RegistrationData> validateAsync(RegistrationRequest registrationRequest, RegistrationParameters registrationParameters) {
+        return this.webAuthnRegistrationManager.validateAsync(registrationRequest, registrationParameters);
+    }
+
+    public CompletableFuture<RegistrationData> validateAsync(RegistrationData registrationData, RegistrationParameters registrationParameters) {
+        return this.webAuthnRegistrationManager.validateAsync(registrationData, registrationParameters);
+    }
+
     @SuppressWarnings("squid:S1130")
     public AuthenticationData parse(AuthenticationRequest authenticationRequest) throws DataConversionException {
         return this.webAuthnAuthenticationManager.parse(authenticationRequest);
@@ -173,6 +182,18 @@ public class WebAuthnManager {
         return this.webAuthnAuthenticationManager.validate(authenticationData, authenticationParameters);
     }
 
+    public CompletableFuture<AuthenticationData> validateAsync(AuthenticationRequest authenticationRequest, AuthenticationParameters authenticationParameters) {
+        return this.webAuthnAuthenticationManager.validateAsync(authenticationRequest, authenticationParameters);
+    }
+
+    public CompletableFuture<AuthenticationData> validateAsync(AuthenticationData authenticationData, AuthenticationParameters authenticationParameters) {
+        return this.webAuthnAuthenticationManager.validateAsync(authenticationData, authenticationParameters);
+    }
+
+    public List<AuthenticationResult> validateAll(List<AuthenticationRequest> authenticationRequests, List<AuthenticationParameters> authenticationParametersList) {
+        return this.webAuthnAuthenticationManager.validateAll(authenticationRequests, authenticationParametersList);
+    }
+
 
     public RegistrationDataValidator getRegistrationDataValidator() {
         return this.webAuthnRegistrationManager.getRegistrationDataValidator();
@@ -181,4 +202,12 @@ public class WebAuthnManager {
     public AuthenticationDataValidator getAuthenticationDataValidator() {
         return this.webAuthnAuthenticationManager.getAuthenticationDataValidator();
     }
+
+    public WebAuthnRegistrationManager getWebAuthnRegistrationManager() {
+        return webAuthnRegistrationManager;
+    }
+
+    public WebAuthnAuthenticationManager getWebAuthnAuthenticationManager() {
+        return webAuthnAuthenticationManager;
+    }
 }
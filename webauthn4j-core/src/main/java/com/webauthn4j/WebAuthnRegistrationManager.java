@@ -33,6 +33,8 @@ import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.CustomRegistrationValidator;
 import com.webauthn4j.validator.RegistrationDataValidator;
+import com.webauthn4j.validator.ValidationStage;
+import com.webauthn4j.validator.WebAuthnMetrics;
 import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.androidkey.NullAndroidKeyAttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.androidsafetynet.NullAndroidSafetyNetAttestationStatementValidator;
@@ -50,6 +52,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class WebAuthnRegistrationManager {
 
@@ -63,6 +67,8 @@ public class WebAuthnRegistrationManager {
 
     private final RegistrationDataValidator registrationDataValidator;
 
+    private Executor asyncValidationExecutor = ValidationExecutors.blocking();
+
     public WebAuthnRegistrationManager(
             List<AttestationStatementValidator> attestationStatementValidators,
             CertPathTrustworthinessValidator certPathTrustworthinessValidator,
@@ -164,6 +170,19 @@ public class WebAuthnRegistrationManager {
 
     @SuppressWarnings("squid:S1130")
     public RegistrationData parse(RegistrationRequest registrationRequest) throws DataConversionException {
+        WebAuthnMetrics webAuthnMetrics = registrationDataValidator.getWebAuthnMetrics();
+        long start = System.nanoTime();
+        try {
+            return parseRegistrationRequest(registrationRequest);
+        } catch (RuntimeException e) {
+            webAuthnMetrics.recordFailure(ValidationStage.PARSE, e);
+            throw e;
+        } finally {
+            webAuthnMetrics.recordStage(ValidationStage.PARSE, System.nanoTime() - start);
+        }
+    }
+
+    private RegistrationData parseRegistrationRequest(RegistrationRequest registrationRequest) {
 
         byte[] clientDataBytes = registrationRequest.getClientDataJSON();
         byte[] attestationObjectBytes = registrationRequest.getAttestationObject();
@@ -198,8 +217,38 @@ public class WebAuthnRegistrationManager {
         return registrationData;
     }
 
+    /**
+     * Parses and validates the request on the async validation executor, so that the caller, e.g. an event loop, is not blocked
+     *
+     * @param registrationRequest    registration request
+     * @param registrationParameters registration parameters
+     * @return future completed with the parsed data, or exceptionally with the parse or validation failure
+     */
+    public CompletableFuture<RegistrationData> validateAsync(RegistrationRequest registrationRequest, RegistrationParameters registrationParameters) {
+        return ValidationExecutors.supplyAsync(() -> validate(registrationRequest, registrationParameters), asyncValidationExecutor);
+    }
+
+    public CompletableFuture<RegistrationData> validateAsync(RegistrationData registrationData, RegistrationParameters registrationParameters) {
+        return ValidationExecutors.supplyAsync(() -> validate(registrationData, registrationParameters), asyncValidationExecutor);
+    }
+
     public RegistrationDataValidator getRegistrationDataValidator() {
         return registrationDataValidator;
     }
 
+    public Executor getAsyncValidationExecutor() {
+        return asyncValidationExecutor;
+    }
+
+    /**
+     * Sets the executor {@code validateAsync} runs on. Registration may block on loading trust anchors or metadata,
+     * so it defaults to a shared, bounded pool for blocking tasks, separate from the one authentication uses.
+     *
+     * @param asyncValidationExecutor executor
+     */
+    public void setAsyncValidationExecutor(Executor asyncValidationExecutor) {
+        AssertUtil.notNull(asyncValidationExecutor, "asyncValidationExecutor must not be null");
+        this.asyncValidationExecutor = asyncValidationExecutor;
+    }
+
 }
@@ -17,37 +17,114 @@
 package com.webauthn4j.anchor;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.security.cert.TrustAnchor;
-import java.util.Map;
-import java.util.Set;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * An abstract {@link TrustAnchorsProvider} implementation that provides caching functionality
+ * An abstract {@link TrustAnchorsProvider} implementation that provides caching functionality.
+ * <p>
+ * The loaded trust anchors are published as an immutable snapshot, so that {@link #provide()} is lock-free once loaded.
+ * If a reload interval is set, the source is checked once the interval elapses and reloaded when
+ * {@link #getSourceVersion()} reports a change. The new snapshot is swapped in atomically, and a failed reload keeps
+ * the previous one.
  */
 public abstract class CachingTrustAnchorsProviderBase implements TrustAnchorsProvider {
 
     // ~ Instance fields
     // ================================================================================================
 
-    private Map<AAGUID, Set<TrustAnchor>> cachedTrustAnchors;
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private Duration reloadInterval;
+    private Clock clock = Clock.systemUTC();
 
     // ~ Methods
     // ========================================================================================================
 
     /**
      * Loads {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map} and cache it.
+     * The same map instance is returned until the trust anchors are reloaded.
      *
      * @return {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
      */
     @Override
     public Map<AAGUID, Set<TrustAnchor>> provide() {
-        if (cachedTrustAnchors == null) {
-            synchronized (this) {
-                cachedTrustAnchors = loadTrustAnchors();
+        Snapshot current = snapshot;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            } finally {
+                loadLock.unlock();
             }
+        } else if (reloadInterval != null && clock.millis() - current.checkedAt >= reloadInterval.toMillis() && loadLock.tryLock()) {
+            // only one thread checks for a reload, the others keep serving the current snapshot
+            try {
+                current = reloadIfModified(snapshot);
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current.trustAnchors;
+    }
+
+    /**
+     * Reloads the trust anchors regardless of {@link #getSourceVersion()}
+     */
+    public void reload() {
+        loadLock.lock();
+        try {
+            snapshot = load();
+        } finally {
+            loadLock.unlock();
         }
-        return cachedTrustAnchors;
+    }
+
+    /**
+     * Discards the loaded trust anchors, so that they are loaded again on the next {@link #provide()}
+     */
+    void clear() {
+        loadLock.lock();
+        try {
+            snapshot = null;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot reloadIfModified(Snapshot current) {
+        try {
+            Object sourceVersion = getSourceVersion();
+            if (sourceVersion != null && sourceVersion.equals(current.sourceVersion)) {
+                current = new Snapshot(current.trustAnchors, current.sourceVersion, clock.millis());
+            } else {
+                current = load();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to reload trust anchors. The previously loaded trust anchors are kept.", e);
+            current = new Snapshot(current.trustAnchors, current.sourceVersion, clock.millis());
+        }
+        snapshot = current;
+        return current;
+    }
+
+    private Snapshot load() {
+        Object sourceVersion = getSourceVersion();
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = new HashMap<>();
+        loadTrustAnchors().forEach((aaguid, set) -> trustAnchors.put(aaguid, Collections.unmodifiableSet(new HashSet<>(set))));
+        return new Snapshot(Collections.unmodifiableMap(trustAnchors), sourceVersion, clock.millis());
     }
 
     /**
@@ -56,4 +133,48 @@ public abstract class CachingTrustAnchorsProviderBase implements TrustAnchorsPro
      * @return {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
      */
     protected abstract Map<AAGUID, Set<TrustAnchor>> loadTrustAnchors();
+
+    /**
+     * Returns a value that changes whenever the source of the trust anchors changes, such as the last modified time
+     * of a file. If null, the trust anchors are reloaded every time the reload interval elapses.
+     *
+     * @return version of the source, or null if unknown
+     */
+    protected Object getSourceVersion() {
+        return null;
+    }
+
+    public Duration getReloadInterval() {
+        return reloadInterval;
+    }
+
+    /**
+     * Sets the interval after which the source is checked for changes. Setting null disables reloading.
+     *
+     * @param reloadInterval reload interval
+     */
+    public void setReloadInterval(Duration reloadInterval) {
+        if (reloadInterval != null && reloadInterval.isNegative()) {
+            throw new IllegalArgumentException("reloadInterval must not be negative");
+        }
+        this.reloadInterval = reloadInterval;
+    }
+
+    void setClock(Clock clock) {
+        AssertUtil.notNull(clock, "clock must not be null");
+        this.clock = clock;
+    }
+
+    private static class Snapshot {
+
+        private final Map<AAGUID, Set<TrustAnchor>> trustAnchors;
+        private final Object sourceVersion;
+        private final long checkedAt;
+
+        Snapshot(Map<AAGUID, Set<TrustAnchor>> trustAnchors, Object sourceVersion, long checkedAt) {
+            this.trustAnchors = trustAnchors;
+            this.sourceVersion = sourceVersion;
+            this.checkedAt = checkedAt;
+        }
+    }
 }
@@ -21,11 +21,14 @@ import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CertificateUtil;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -65,9 +68,26 @@ public class CertFileTrustAnchorsProvider extends CachingTrustAnchorsProviderBas
         return Collections.singletonMap(AAGUID.NULL, trustAnchors);
     }
 
-    private TrustAnchor loadTrustAnchor(Path certificate) {
+    /**
+     * Returns the last modified times of the certificate files, so that replaced certificates are picked up on reload
+     */
+    @Override
+    protected Object getSourceVersion() {
+        checkConfig();
+        List<FileTime> lastModifiedTimes = new ArrayList<>(certificates.size());
         try {
-            X509Certificate x509Certificate = CertificateUtil.generateX509Certificate(Files.newInputStream(certificate));
+            for (Path certificate : certificates) {
+                lastModifiedTimes.add(Files.getLastModifiedTime(certificate));
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return lastModifiedTimes;
+    }
+
+    private TrustAnchor loadTrustAnchor(Path certificate) {
+        try (InputStream inputStream = Files.newInputStream(certificate)) {
+            X509Certificate x509Certificate = CertificateUtil.generateX509Certificate(inputStream);
             return new TrustAnchor(x509Certificate, null);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
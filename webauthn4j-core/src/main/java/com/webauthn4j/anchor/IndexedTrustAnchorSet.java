@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CertificateUtil;
+
+import javax.security.auth.x500.X500Principal;
+import java.nio.ByteBuffer;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.*;
+
+/**
+ * Unmodifiable {@link TrustAnchor} {@link Set} that can look up the trust anchors which may have issued a certificate.
+ * The index by subject and subject key identifier is built on first lookup and lives as long as the set.
+ */
+public class IndexedTrustAnchorSet extends AbstractSet<TrustAnchor> {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Set<TrustAnchor> trustAnchors;
+    private volatile Index index;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    public IndexedTrustAnchorSet(Collection<TrustAnchor> trustAnchors) {
+        AssertUtil.notNull(trustAnchors, "trustAnchors must not be null");
+        this.trustAnchors = Collections.unmodifiableSet(new HashSet<>(trustAnchors));
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Returns the trust anchors whose subject is the issuer of the certificate, or whose subject key identifier is
+     * its authority key identifier. If none qualifies, the whole set is returned, so that path validation still
+     * reports the failure as before.
+     *
+     * @param certificate the certificate to be issued by a trust anchor, typically the last one of a cert path
+     * @return unmodifiable {@link TrustAnchor} {@link Set}
+     */
+    public Set<TrustAnchor> findIssuerCandidates(X509Certificate certificate) {
+        AssertUtil.notNull(certificate, "certificate must not be null");
+        Index current = getIndex();
+        Set<TrustAnchor> bySubject = current.bySubject.getOrDefault(certificate.getIssuerX500Principal(), Collections.emptySet());
+        byte[] authorityKeyIdentifier = current.bySubjectKeyIdentifier.isEmpty() ? null : CertificateUtil.getAuthorityKeyIdentifier(certificate);
+        Set<TrustAnchor> bySubjectKeyIdentifier = authorityKeyIdentifier == null ? Collections.emptySet() :
+                current.bySubjectKeyIdentifier.getOrDefault(ByteBuffer.wrap(authorityKeyIdentifier), Collections.emptySet());
+
+        if (bySubjectKeyIdentifier.isEmpty() || bySubject.containsAll(bySubjectKeyIdentifier)) {
+            return bySubject.isEmpty() ? this : bySubject;
+        }
+        if (bySubject.isEmpty()) {
+            return bySubjectKeyIdentifier;
+        }
+        Set<TrustAnchor> candidates = new HashSet<>(bySubject);
+        candidates.addAll(bySubjectKeyIdentifier);
+        return Collections.unmodifiableSet(candidates);
+    }
+
+    @Override
+    public Iterator<TrustAnchor> iterator() {
+        return trustAnchors.iterator();
+    }
+
+    @Override
+    public int size() {
+        return trustAnchors.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return trustAnchors.contains(o);
+    }
+
+    private Index getIndex() {
+        Index current = index;
+        if (current == null) {
+            current = new Index(trustAnchors);
+            index = current;
+        }
+        return current;
+    }
+
+    private static class Index {
+
+        private final Map<X500Principal, Set<TrustAnchor>> bySubject = new HashMap<>();
+        private final Map<ByteBuffer, Set<TrustAnchor>> bySubjectKeyIdentifier = new HashMap<>();
+
+        Index(Set<TrustAnchor> trustAnchors) {
+            for (TrustAnchor trustAnchor : trustAnchors) {
+                X509Certificate trustedCert = trustAnchor.getTrustedCert();
+                X500Principal subject = trustedCert != null ? trustedCert.getSubjectX500Principal() : trustAnchor.getCA();
+                if (subject != null) {
+                    bySubject.computeIfAbsent(subject, key -> new HashSet<>()).add(trustAnchor);
+                }
+                byte[] subjectKeyIdentifier = trustedCert != null ? CertificateUtil.getSubjectKeyIdentifier(trustedCert) : null;
+                if (subjectKeyIdentifier != null) {
+                    bySubjectKeyIdentifier.computeIfAbsent(ByteBuffer.wrap(subjectKeyIdentifier), key -> new HashSet<>()).add(trustAnchor);
+                }
+            }
+            bySubject.replaceAll((key, value) -> Collections.unmodifiableSet(value));
+            bySubjectKeyIdentifier.replaceAll((key, value) -> Collections.unmodifiableSet(value));
+        }
+    }
+}
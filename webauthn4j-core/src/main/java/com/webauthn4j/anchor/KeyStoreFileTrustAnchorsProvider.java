@@ -69,6 +69,19 @@ public class KeyStoreFileTrustAnchorsProvider extends CachingTrustAnchorsProvide
         }
     }
 
+    /**
+     * Returns the last modified time of the keyStore file, so that a rotated keyStore is picked up on reload
+     */
+    @Override
+    protected Object getSourceVersion() {
+        checkConfig();
+        try {
+            return Files.getLastModifiedTime(getKeyStore());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     private KeyStore loadKeyStoreFromStream(InputStream inputStream, String password)
             throws CertificateException, NoSuchAlgorithmException, IOException {
         KeyStore keyStoreObject = CertificateUtil.createKeyStore();
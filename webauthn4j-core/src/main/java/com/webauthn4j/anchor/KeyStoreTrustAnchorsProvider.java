@@ -26,8 +26,11 @@ import java.util.*;
 
 /**
  * Loads {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map} from Java KeyStore.
+ * <p>
+ * The trust anchors are loaded once and cached. Changes made to the {@link KeyStore} afterwards are picked up by
+ * {@link #reload()}, or periodically if a reload interval is set.
  */
-public class KeyStoreTrustAnchorsProvider implements TrustAnchorsProvider {
+public class KeyStoreTrustAnchorsProvider extends CachingTrustAnchorsProviderBase {
 
     // ~ Instance fields
     // ================================================================================================
@@ -37,14 +40,6 @@ public class KeyStoreTrustAnchorsProvider implements TrustAnchorsProvider {
     // ~ Methods
     // ========================================================================================================
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Map<AAGUID, Set<TrustAnchor>> provide() {
-        return loadTrustAnchors();
-    }
-
     /**
      * Provides keyStore object
      *
@@ -55,19 +50,24 @@ public class KeyStoreTrustAnchorsProvider implements TrustAnchorsProvider {
     }
 
     /**
-     * Sets keyStore object
+     * Sets keyStore object. The trust anchors loaded from the previous keyStore object are discarded.
      *
      * @param keyStore keyStore object
      */
     public void setKeyStore(KeyStore keyStore) {
         this.keyStore = keyStore;
+        clear();
     }
 
     private void checkConfig() {
         AssertUtil.notNull(keyStore, "keyStore must not be null");
     }
 
-    private Map<AAGUID, Set<TrustAnchor>> loadTrustAnchors() {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Map<AAGUID, Set<TrustAnchor>> loadTrustAnchors() {
         checkConfig();
         KeyStore keyStoreObject = getKeyStore();
         try {
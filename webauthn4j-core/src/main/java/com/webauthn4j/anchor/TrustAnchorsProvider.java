@@ -29,6 +29,10 @@ public interface TrustAnchorsProvider {
 
     /**
      * Provides {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
+     * <p>
+     * Implementations should return the same {@link Map} instance, or at least an equal one, as long as the trust
+     * anchors are unchanged, as consumers such as {@link TrustAnchorsResolverImpl} rebuild their derived data when
+     * the provided trust anchors change.
      *
      * @return {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
      */
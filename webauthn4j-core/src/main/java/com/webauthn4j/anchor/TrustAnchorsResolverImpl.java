@@ -20,8 +20,6 @@ import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.util.AssertUtil;
 
 import java.security.cert.TrustAnchor;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -34,6 +32,7 @@ public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
     // ================================================================================================
 
     private final TrustAnchorsProvider trustAnchorsProvider;
+    private volatile TrustAnchorsSnapshot snapshot;
 
     // ~ Constructor
     // ========================================================================================================
@@ -52,13 +51,28 @@ public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
     @Override
     public Set<TrustAnchor> resolve(AAGUID aaguid) {
         AssertUtil.notNull(aaguid, "aaguid must not be null");
+        return getSnapshot().find(aaguid);
+    }
 
+    /**
+     * Returns the {@link TrustAnchorsSnapshot} of the trust anchors currently provided.
+     * It is rebuilt only when the {@link TrustAnchorsProvider} provides different trust anchors, either as a map
+     * which is not equal to the previous one or as the previous map modified in place.
+     *
+     * @return {@link TrustAnchorsSnapshot}
+     */
+    public TrustAnchorsSnapshot getSnapshot() {
         Map<AAGUID, Set<TrustAnchor>> trustAnchors = trustAnchorsProvider.provide();
-
-        HashSet<TrustAnchor> set = new HashSet<>();
-        set.addAll(trustAnchors.getOrDefault(AAGUID.NULL, Collections.emptySet()));
-        set.addAll(trustAnchors.getOrDefault(aaguid, Collections.emptySet()));
-        return set;
+        TrustAnchorsSnapshot current = snapshot;
+        if (current == null || !current.isBuiltFrom(trustAnchors)) {
+            current = new TrustAnchorsSnapshot(trustAnchors);
+            snapshot = current;
+        } else if (current.getSource() != trustAnchors) {
+            // an equal map instance is provided, so the derived data is kept and only the source is rebound
+            current = current.withSource(trustAnchors);
+            snapshot = current;
+        }
+        return current;
     }
 
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
+
+import java.security.cert.TrustAnchor;
+import java.util.*;
+
+/**
+ * Immutable, indexed view of the {@link TrustAnchor}s provided by a {@link TrustAnchorsProvider}.
+ * <p>
+ * The trust anchors registered for {@link AAGUID#NULL} are merged into the set of every {@link AAGUID} up front,
+ * so that resolution by {@link AAGUID} is a plain map lookup. Each resolved set is an {@link IndexedTrustAnchorSet},
+ * which indexes its trust anchors for issuer lookups.
+ */
+public class TrustAnchorsSnapshot {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Map<AAGUID, Set<TrustAnchor>> source;
+    private final int sourceHashCode;
+    private final Set<TrustAnchor> commonTrustAnchors;
+    private final Map<AAGUID, Set<TrustAnchor>> trustAnchorsByAAGUID;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    public TrustAnchorsSnapshot(Map<AAGUID, Set<TrustAnchor>> source) {
+        AssertUtil.notNull(source, "source must not be null");
+        this.source = source;
+        this.sourceHashCode = source.hashCode();
+        this.commonTrustAnchors = new IndexedTrustAnchorSet(source.getOrDefault(AAGUID.NULL, Collections.emptySet()));
+
+        Map<AAGUID, Set<TrustAnchor>> byAAGUID = new HashMap<>();
+        for (Map.Entry<AAGUID, Set<TrustAnchor>> entry : source.entrySet()) {
+            if (!AAGUID.NULL.equals(entry.getKey())) {
+                Set<TrustAnchor> merged = new HashSet<>(commonTrustAnchors);
+                merged.addAll(entry.getValue());
+                byAAGUID.put(entry.getKey(), new IndexedTrustAnchorSet(merged));
+            }
+        }
+        this.trustAnchorsByAAGUID = Collections.unmodifiableMap(byAAGUID);
+    }
+
+    private TrustAnchorsSnapshot(Map<AAGUID, Set<TrustAnchor>> source, TrustAnchorsSnapshot snapshot) {
+        this.source = source;
+        this.sourceHashCode = snapshot.sourceHashCode;
+        this.commonTrustAnchors = snapshot.commonTrustAnchors;
+        this.trustAnchorsByAAGUID = snapshot.trustAnchorsByAAGUID;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Returns the trust anchors for the {@link AAGUID}, including the ones registered for {@link AAGUID#NULL}
+     *
+     * @param aaguid aaguid
+     * @return unmodifiable {@link TrustAnchor} {@link Set}, which is an {@link IndexedTrustAnchorSet}
+     */
+    public Set<TrustAnchor> find(AAGUID aaguid) {
+        return trustAnchorsByAAGUID.getOrDefault(aaguid, commonTrustAnchors);
+    }
+
+    Map<AAGUID, Set<TrustAnchor>> getSource() {
+        return source;
+    }
+
+    /**
+     * Returns whether the trust anchors are the ones this snapshot was built from. The hash code recorded at build
+     * time detects a source map modified in place, and a different map instance is compared with equals.
+     */
+    boolean isBuiltFrom(Map<AAGUID, Set<TrustAnchor>> trustAnchors) {
+        if (trustAnchors.hashCode() != sourceHashCode) {
+            return false;
+        }
+        return trustAnchors == source || trustAnchors.equals(source);
+    }
+
+    /**
+     * Returns a snapshot that shares the derived data of this one, but is bound to an equal source map instance
+     */
+    TrustAnchorsSnapshot withSource(Map<AAGUID, Set<TrustAnchor>> trustAnchors) {
+        return new TrustAnchorsSnapshot(trustAnchors, this);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.authenticator;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory {@link SignCounterRepository}.
+ * An update only locks the hash bin of its credential, so assertions of different credentials do not contend.
+ */
+public class InMemorySignCounterRepository implements SignCounterRepository {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final ConcurrentMap<String, Long> signCounters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean compareAndAdvance(byte[] credentialId, long expected, long presented) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        boolean[] advanced = new boolean[1];
+        signCounters.compute(Base64UrlUtil.encodeToString(credentialId), (key, stored) -> {
+            long current = stored == null ? expected : Math.max(stored, expected);
+            if (presented > current) {
+                advanced[0] = true;
+                return presented;
+            }
+            return current;
+        });
+        return advanced[0];
+    }
+
+    /**
+     * Returns the stored signature counter of the credential
+     *
+     * @param credentialId credential ID
+     * @return signature counter, or null if none is stored
+     */
+    public Long getSignCounter(byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        return signCounters.get(Base64UrlUtil.encodeToString(credentialId));
+    }
+
+    /**
+     * Removes the signature counter of the credential, e.g. when the credential is deleted
+     *
+     * @param credentialId credential ID
+     */
+    public void remove(byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        signCounters.remove(Base64UrlUtil.encodeToString(credentialId));
+    }
+}
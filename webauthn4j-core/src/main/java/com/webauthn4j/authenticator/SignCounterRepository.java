@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.authenticator;
+
+/**
+ * Stores the signature counters of credentials, so that concurrent assertions of the same credential are checked
+ * against a single, atomically updated value instead of the counter held by each {@link Authenticator} instance.
+ */
+public interface SignCounterRepository {
+
+    /**
+     * Atomically advances the stored signature counter of the credential to {@code presented} if it is greater than
+     * the current one. The current one is the greater of the stored counter and {@code expected}, the counter the
+     * caller loaded with the credential; {@code expected} alone is used if no counter is stored yet.
+     *
+     * @param credentialId credential ID
+     * @param expected     signature counter the caller loaded with the credential
+     * @param presented    signature counter presented in the assertion
+     * @return true if the counter was advanced, false if {@code presented} is not greater than the current counter
+     */
+    boolean compareAndAdvance(byte[] credentialId, long expected, long presented);
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.authenticator;
+
+import java.util.Map;
+
+/**
+ * Persists signature counters flushed by {@link WriteBehindSignCounterRepository}
+ */
+@FunctionalInterface
+public interface SignCounterWriter {
+
+    /**
+     * Persists the latest signature counters of the credentials. A counter must only be written if it is greater than
+     * the persisted one, as batches of different instances may arrive out of order.
+     *
+     * @param signCounters signature counters keyed by base64url-encoded credential ID
+     */
+    void write(Map<String, Long> signCounters);
+
+}
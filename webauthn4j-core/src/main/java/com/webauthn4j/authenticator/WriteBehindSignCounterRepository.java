@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.authenticator;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link SignCounterRepository} decorator which persists advanced counters in batches instead of per assertion.
+ * <p>
+ * The decorated repository, typically an {@link InMemorySignCounterRepository}, decides atomically whether a counter
+ * advances. Advanced counters are coalesced per credential and handed to the {@link SignCounterWriter} by
+ * {@link #flush()}, in batches of at most {@code batchSize} credentials. Counters not flushed yet are lost if the
+ * process stops, so {@link #flush()} should also be called on shutdown.
+ */
+public class WriteBehindSignCounterRepository implements SignCounterRepository {
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Logger logger = LoggerFactory.getLogger(WriteBehindSignCounterRepository.class);
+
+    private final SignCounterRepository signCounterRepository;
+    private final SignCounterWriter signCounterWriter;
+    private final int batchSize;
+
+    private final ConcurrentMap<String, Long> pendingSignCounters = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public WriteBehindSignCounterRepository(SignCounterRepository signCounterRepository, SignCounterWriter signCounterWriter, int batchSize) {
+        AssertUtil.notNull(signCounterRepository, "signCounterRepository must not be null");
+        AssertUtil.notNull(signCounterWriter, "signCounterWriter must not be null");
+        AssertUtil.isTrue(batchSize > 0, "batchSize must be positive");
+        this.signCounterRepository = signCounterRepository;
+        this.signCounterWriter = signCounterWriter;
+        this.batchSize = batchSize;
+    }
+
+    public WriteBehindSignCounterRepository(SignCounterRepository signCounterRepository, SignCounterWriter signCounterWriter) {
+        this(signCounterRepository, signCounterWriter, DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public boolean compareAndAdvance(byte[] credentialId, long expected, long presented) {
+        if (!signCounterRepository.compareAndAdvance(credentialId, expected, presented)) {
+            return false;
+        }
+        pendingSignCounters.merge(Base64UrlUtil.encodeToString(credentialId), presented, Math::max);
+        return true;
+    }
+
+    /**
+     * Writes the counters advanced since the last flush. If the writer fails, the counters of the failed and the
+     * remaining batches are kept for the next flush, and the exception is rethrown.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<String> credentialIds = new ArrayList<>(pendingSignCounters.keySet());
+            for (int from = 0; from < credentialIds.size(); from += batchSize) {
+                Map<String, Long> batch = new HashMap<>();
+                for (String credentialId : credentialIds.subList(from, Math.min(from + batchSize, credentialIds.size()))) {
+                    Long signCounter = pendingSignCounters.remove(credentialId);
+                    if (signCounter != null) {
+                        batch.put(credentialId, signCounter);
+                    }
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                try {
+                    signCounterWriter.write(Collections.unmodifiableMap(batch));
+                } catch (RuntimeException e) {
+                    batch.forEach((credentialId, signCounter) -> pendingSignCounters.merge(credentialId, signCounter, Math::max));
+                    throw e;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Periodically flushes the advanced counters on the given scheduler
+     *
+     * @param scheduler scheduler to run the flush on
+     * @param period    interval between flushes
+     * @return future to cancel the scheduled flush
+     */
+    public ScheduledFuture<?> scheduleFlush(ScheduledExecutorService scheduler, Duration period) {
+        AssertUtil.notNull(scheduler, "scheduler must not be null");
+        AssertUtil.notNull(period, "period must not be null");
+        return scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write signature counters. They are retried on the next flush.", e);
+            }
+        }, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the number of credentials whose advanced counters are not flushed yet
+     *
+     * @return number of pending credentials
+     */
+    public int getPendingCount() {
+        return pendingSignCounters.size();
+    }
+}
@@ -16,7 +16,6 @@
 
 package com.webauthn4j.converter;
 
-import com.webauthn4j.converter.jackson.deserializer.COSEKeyEnvelope;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
@@ -65,15 +64,23 @@ public class AttestedCredentialDataConverter implements Serializable {
         int length = UnsignedNumberUtil.getUnsignedShort(attestedCredentialData);
         byte[] credentialId = new byte[length];
         attestedCredentialData.get(credentialId, 0, length);
-        byte[] remaining = new byte[attestedCredentialData.remaining()];
-        attestedCredentialData.get(remaining);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-        COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(byteArrayInputStream);
-        COSEKey coseKey = coseKeyEnvelope.getCOSEKey();
-        AttestedCredentialData result = new AttestedCredentialData(aaguid, credentialId, coseKey);
-        int extensionsBufferLength = remaining.length - coseKeyEnvelope.getLength();
-        attestedCredentialData.position(attestedCredentialData.position() - extensionsBufferLength);
-        return result;
+        byte[] src;
+        int offset;
+        int limit;
+        if (attestedCredentialData.hasArray()) {
+            src = attestedCredentialData.array();
+            offset = attestedCredentialData.arrayOffset() + attestedCredentialData.position();
+            limit = attestedCredentialData.arrayOffset() + attestedCredentialData.limit();
+        } else {
+            src = new byte[attestedCredentialData.remaining()];
+            attestedCredentialData.duplicate().get(src);
+            offset = 0;
+            limit = src.length;
+        }
+        int credentialPublicKeyLength = CborItemReader.skipItem(src, offset, limit) - offset;
+        COSEKey coseKey = convertToCredentialPublicKey(src, offset, credentialPublicKeyLength);
+        attestedCredentialData.position(attestedCredentialData.position() + credentialPublicKeyLength);
+        return new AttestedCredentialData(aaguid, credentialId, coseKey);
     }
 
     public AttestedCredentialData convert(byte[] attestedCredentialData) {
@@ -92,8 +99,12 @@ public class AttestedCredentialDataConverter implements Serializable {
         return Arrays.copyOfRange(attestedCredentialData, CREDENTIAL_ID_INDEX, CREDENTIAL_ID_INDEX + credentialIdLength);
     }
 
-    COSEKeyEnvelope convertToCredentialPublicKey(InputStream inputStream) {
-        return cborConverter.readValue(inputStream, COSEKeyEnvelope.class);
+    COSEKey convertToCredentialPublicKey(byte[] src, int offset, int length) {
+        COSEKey coseKey = CborItemReader.readEC2COSEKey(src, offset, offset + length);
+        if (coseKey != null) {
+            return coseKey;
+        }
+        return cborConverter.readValue(src, offset, length, COSEKey.class);
     }
 
     byte[] convert(COSEKey coseKey) {
@@ -18,8 +18,6 @@ package com.webauthn4j.converter;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.webauthn4j.converter.exception.DataConversionException;
-import com.webauthn4j.converter.jackson.deserializer.AuthenticationExtensionsAuthenticatorOutputsEnvelope;
-import com.webauthn4j.converter.jackson.deserializer.COSEKeyEnvelope;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
@@ -29,7 +27,6 @@ import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.UnsignedNumberUtil;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -49,6 +46,8 @@ public class AuthenticatorDataConverter {
     private static final int AAGUID_LENGTH = 16;
     private static final int L_LENGTH = 2;
 
+    private static final byte EMPTY_MAP = (byte) 0xA0;
+
     private static final int COUNTER_INDEX = RPID_HASH_LENGTH + FLAGS_LENGTH;
     private static final int ATTESTED_CREDENTIAL_DATA_INDEX = RPID_HASH_LENGTH + FLAGS_LENGTH + COUNTER_LENGTH;
     private static final int L_INDEX = ATTESTED_CREDENTIAL_DATA_INDEX + AAGUID_LENGTH;
@@ -119,7 +118,7 @@ public class AuthenticatorDataConverter {
                 attestationData = null;
             }
             if (AuthenticatorData.checkFlagED(flags)) {
-                extensions = convertToExtensions(byteBuffer);
+                extensions = convertToExtensions(source, byteBuffer);
             } else {
                 extensions = new AuthenticationExtensionsAuthenticatorOutputs<>();
             }
@@ -134,18 +133,17 @@ public class AuthenticatorDataConverter {
         }
     }
 
-    private <T extends ExtensionAuthenticatorOutput> AuthenticationExtensionsAuthenticatorOutputs<T> convertToExtensions(ByteBuffer byteBuffer) {
+    private <T extends ExtensionAuthenticatorOutput> AuthenticationExtensionsAuthenticatorOutputs<T> convertToExtensions(byte[] source, ByteBuffer byteBuffer) {
         if (byteBuffer.remaining() == 0) {
             return new AuthenticationExtensionsAuthenticatorOutputs<>();
         }
-        byte[] remaining = new byte[byteBuffer.remaining()];
-        byteBuffer.get(remaining);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-        AuthenticationExtensionsAuthenticatorOutputsEnvelope<T> envelope =
-                cborConverter.readValue(byteArrayInputStream, new TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<T>>(){});
-        int leftoverLength = remaining.length - envelope.getLength();
-        byteBuffer.position(byteBuffer.position() - leftoverLength);
-        return envelope.getAuthenticationExtensionsAuthenticatorOutputs();
+        int offset = byteBuffer.position();
+        int length = CborItemReader.skipItem(source, offset, source.length) - offset;
+        byteBuffer.position(offset + length);
+        if (length == 1 && source[offset] == EMPTY_MAP) {
+            return new AuthenticationExtensionsAuthenticatorOutputs<>();
+        }
+        return cborConverter.readValue(source, offset, length, new TypeReference<AuthenticationExtensionsAuthenticatorOutputs<T>>() {});
     }
 
     /**
@@ -159,10 +157,7 @@ public class AuthenticatorDataConverter {
         int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(lengthBytes);
         int credentialPublicKeyIndex = CREDENTIAL_ID_INDEX + credentialIdLength;
 
-        byte[] attestedCredentialDataBytes = Arrays.copyOfRange(authenticatorData, credentialPublicKeyIndex, authenticatorData.length);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(attestedCredentialDataBytes);
-        COSEKeyEnvelope coseKeyEnvelope = attestedCredentialDataConverter.convertToCredentialPublicKey(byteArrayInputStream);
-        int credentialPublicKeyLength = coseKeyEnvelope.getLength();
+        int credentialPublicKeyLength = CborItemReader.skipItem(authenticatorData, credentialPublicKeyIndex, authenticatorData.length) - credentialPublicKeyIndex;
         int attestedCredentialDataLength = AAGUID_LENGTH + L_LENGTH + credentialIdLength + credentialPublicKeyLength;
         return Arrays.copyOfRange(authenticatorData, ATTESTED_CREDENTIAL_DATA_INDEX, ATTESTED_CREDENTIAL_DATA_INDEX + attestedCredentialDataLength);
     }
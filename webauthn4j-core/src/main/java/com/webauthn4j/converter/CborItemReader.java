@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.Curve;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+
+import java.util.Arrays;
+
+/**
+ * Minimal CBOR reader that works on offsets into the original byte array.
+ * <p>
+ * It is used to find the boundaries of the COSE_Key and the extensions map embedded in authenticator data,
+ * and to decode the common EC2 COSE_Key without going through Jackson. Anything outside of that subset is left to
+ * {@link com.webauthn4j.converter.util.CborConverter}.
+ */
+final class CborItemReader {
+
+    private static final String MALFORMED_CBOR_ERROR_MESSAGE = "provided data is not well-formed CBOR";
+
+    private static final int MAJOR_TYPE_UNSIGNED_INT = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INT = 1;
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_TAG = 6;
+    private static final int MAJOR_TYPE_SIMPLE = 7;
+
+    private static final int INDEFINITE_LENGTH = 31;
+    private static final int BREAK = 0xFF;
+    private static final int MAX_DEPTH = 16;
+
+    private static final int COSE_KEY_KTY = 1;
+    private static final int COSE_KEY_KID = 2;
+    private static final int COSE_KEY_ALG = 3;
+    private static final int COSE_KEY_EC2_CRV = -1;
+    private static final int COSE_KEY_EC2_X = -2;
+    private static final int COSE_KEY_EC2_Y = -3;
+    private static final int COSE_KEY_TYPE_EC2 = 2;
+
+    private CborItemReader() {
+    }
+
+    /**
+     * Returns the offset just after the CBOR data item which starts at the specified offset
+     *
+     * @param src    source byte array
+     * @param offset offset of the data item
+     * @param limit  end of the readable range (exclusive)
+     * @return the offset just after the data item
+     * @throws DataConversionException if the data item is malformed or exceeds the limit
+     */
+    static int skipItem(byte[] src, int offset, int limit) {
+        return skipItem(src, offset, limit, 0);
+    }
+
+    /**
+     * Decodes an EC2 COSE_Key which consists only of kty, kid, alg, crv, x and y
+     *
+     * @param src    source byte array
+     * @param offset offset of the COSE_Key map
+     * @param end    offset just after the COSE_Key map
+     * @return the decoded {@link EC2COSEKey}, or null if the COSE_Key is outside of the supported subset
+     */
+    static COSEKey readEC2COSEKey(byte[] src, int offset, int end) {
+        int initialByte = src[offset] & 0xFF;
+        if (initialByte >>> 5 != MAJOR_TYPE_MAP || (initialByte & 0x1F) == INDEFINITE_LENGTH) {
+            return null;
+        }
+        long entryCount = readArgument(src, offset, end);
+        int position = offset + headerLength(src, offset);
+
+        Long kty = null;
+        byte[] kid = null;
+        Long alg = null;
+        Long crv = null;
+        byte[] x = null;
+        byte[] y = null;
+        for (long i = 0; i < entryCount; i++) {
+            Long key = readInteger(src, position, end);
+            if (key == null || key < COSE_KEY_EC2_Y || key > COSE_KEY_ALG) {
+                return null;
+            }
+            position = skipItem(src, position, end);
+            int valueEnd = skipItem(src, position, end);
+            switch (key.intValue()) {
+                case COSE_KEY_KTY:
+                    if (kty != null || (kty = readInteger(src, position, end)) == null) {
+                        return null;
+                    }
+                    break;
+                case COSE_KEY_KID:
+                    if (kid != null || (kid = readByteString(src, position, valueEnd)) == null) {
+                        return null;
+                    }
+                    break;
+                case COSE_KEY_ALG:
+                    if (alg != null || (alg = readInteger(src, position, end)) == null) {
+                        return null;
+                    }
+                    break;
+                case COSE_KEY_EC2_CRV:
+                    if (crv != null || (crv = readInteger(src, position, end)) == null) {
+                        return null;
+                    }
+                    break;
+                case COSE_KEY_EC2_X:
+                    if (x != null || (x = readByteString(src, position, valueEnd)) == null) {
+                        return null;
+                    }
+                    break;
+                case COSE_KEY_EC2_Y:
+                    if (y != null || (y = readByteString(src, position, valueEnd)) == null) {
+                        return null;
+                    }
+                    break;
+                default:
+                    return null;
+            }
+            position = valueEnd;
+        }
+        if (position != end || kty == null || kty != COSE_KEY_TYPE_EC2 || crv == null || crv < 1 || crv > 3) {
+            return null;
+        }
+        COSEAlgorithmIdentifier algorithm = alg == null ? null : COSEAlgorithmIdentifier.create(alg);
+        return new EC2COSEKey(kid, algorithm, null, Curve.create(crv.intValue()), x, y);
+    }
+
+    private static int skipItem(byte[] src, int offset, int limit, int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new DataConversionException(MALFORMED_CBOR_ERROR_MESSAGE);
+        }
+        checkAvailable(offset, 1, limit);
+        int initialByte = src[offset] & 0xFF;
+        int majorType = initialByte >>> 5;
+        int additionalInfo = initialByte & 0x1F;
+
+        if (additionalInfo == INDEFINITE_LENGTH) {
+            return skipIndefiniteLengthItem(src, offset, limit, depth, majorType);
+        }
+        long argument = readArgument(src, offset, limit);
+        int position = offset + headerLength(src, offset);
+        switch (majorType) {
+            case MAJOR_TYPE_UNSIGNED_INT:
+            case MAJOR_TYPE_NEGATIVE_INT:
+            case MAJOR_TYPE_SIMPLE:
+                return position;
+            case MAJOR_TYPE_BYTE_STRING:
+            case MAJOR_TYPE_TEXT_STRING:
+                checkAvailable(position, argument, limit);
+                return position + (int) argument;
+            case MAJOR_TYPE_ARRAY:
+                for (long i = 0; i < argument; i++) {
+                    position = skipItem(src, position, limit, depth + 1);
+                }
+                return position;
+            case MAJOR_TYPE_MAP:
+                for (long i = 0; i < argument; i++) {
+                    position = skipItem(src, position, limit, depth + 1);
+                    position = skipItem(src, position, limit, depth + 1);
+                }
+                return position;
+            case MAJOR_TYPE_TAG:
+                return skipItem(src, position, limit, depth + 1);
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    private static int skipIndefiniteLengthItem(byte[] src, int offset, int limit, int depth, int majorType) {
+        int position = offset + 1;
+        switch (majorType) {
+            case MAJOR_TYPE_BYTE_STRING:
+            case MAJOR_TYPE_TEXT_STRING:
+            case MAJOR_TYPE_ARRAY:
+                while (!isBreak(src, position, limit)) {
+                    position = skipItem(src, position, limit, depth + 1);
+                }
+                return position + 1;
+            case MAJOR_TYPE_MAP:
+                while (!isBreak(src, position, limit)) {
+                    position = skipItem(src, position, limit, depth + 1);
+                    position = skipItem(src, position, limit, depth + 1);
+                }
+                return position + 1;
+            default:
+                throw new DataConversionException(MALFORMED_CBOR_ERROR_MESSAGE);
+        }
+    }
+
+    private static boolean isBreak(byte[] src, int offset, int limit) {
+        checkAvailable(offset, 1, limit);
+        return (src[offset] & 0xFF) == BREAK;
+    }
+
+    /**
+     * Reads the argument of the data item header, i.e. the value of an integer or the length of a string or container
+     */
+    private static long readArgument(byte[] src, int offset, int limit) {
+        int additionalInfo = src[offset] & 0x1F;
+        if (additionalInfo < 24) {
+            return additionalInfo;
+        }
+        int length = headerLength(src, offset) - 1;
+        checkAvailable(offset + 1, length, limit);
+        long argument = 0;
+        for (int i = 1; i <= length; i++) {
+            argument = (argument << 8) | (src[offset + i] & 0xFF);
+        }
+        if (argument < 0) {
+            throw new DataConversionException(MALFORMED_CBOR_ERROR_MESSAGE);
+        }
+        return argument;
+    }
+
+    private static int headerLength(byte[] src, int offset) {
+        int additionalInfo = src[offset] & 0x1F;
+        if (additionalInfo < 24) {
+            return 1;
+        }
+        switch (additionalInfo) {
+            case 24:
+                return 2;
+            case 25:
+                return 3;
+            case 26:
+                return 5;
+            case 27:
+                return 9;
+            default:
+                throw new DataConversionException(MALFORMED_CBOR_ERROR_MESSAGE);
+        }
+    }
+
+    private static Long readInteger(byte[] src, int offset, int limit) {
+        checkAvailable(offset, 1, limit);
+        int majorType = (src[offset] & 0xFF) >>> 5;
+        if (majorType == MAJOR_TYPE_UNSIGNED_INT) {
+            return readArgument(src, offset, limit);
+        }
+        if (majorType == MAJOR_TYPE_NEGATIVE_INT) {
+            return -1 - readArgument(src, offset, limit);
+        }
+        return null;
+    }
+
+    private static byte[] readByteString(byte[] src, int offset, int end) {
+        int initialByte = src[offset] & 0xFF;
+        if (initialByte >>> 5 != MAJOR_TYPE_BYTE_STRING || (initialByte & 0x1F) == INDEFINITE_LENGTH) {
+            return null;
+        }
+        return Arrays.copyOfRange(src, offset + headerLength(src, offset), end);
+    }
+
+    private static void checkAvailable(int offset, long length, int limit) {
+        if (length > limit - offset) {
+            throw new DataConversionException(MALFORMED_CBOR_ERROR_MESSAGE);
+        }
+    }
+}
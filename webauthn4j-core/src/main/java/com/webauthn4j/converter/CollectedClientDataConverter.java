@@ -32,6 +32,7 @@ public class CollectedClientDataConverter {
     //~ Instance fields
     // ================================================================================================
     private final JsonConverter jsonConverter;
+    private final CollectedClientDataReader collectedClientDataReader = new CollectedClientDataReader();
 
     //~ Constructors
     // ================================================================================================
@@ -69,6 +70,10 @@ public class CollectedClientDataConverter {
         if (source == null) {
             return null;
         }
+        CollectedClientData collectedClientData = collectedClientDataReader.read(source);
+        if (collectedClientData != null) {
+            return collectedClientData;
+        }
         String jsonString = new String(source, StandardCharsets.UTF_8);
         return jsonConverter.readValue(jsonString, CollectedClientData.class);
     }
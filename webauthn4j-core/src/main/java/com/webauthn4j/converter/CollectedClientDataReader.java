@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.util.Base64UrlUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads the common form of clientDataJSON directly from its UTF-8 bytes.
+ * <p>
+ * Only a flat object with the string members type, challenge and origin, written in ASCII without escape sequences,
+ * and an optional boolean crossOrigin member, is handled. For anything else, including tokenBinding and unknown
+ * members, null is returned so that the caller can fall back to Jackson, which also takes care of reporting
+ * malformed input.
+ */
+class CollectedClientDataReader {
+
+    private static final int MAX_CACHED_ORIGINS = 16;
+
+    private static final byte[] TYPE = "type".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CHALLENGE = "challenge".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ORIGIN = "origin".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CROSS_ORIGIN = "crossOrigin".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBAUTHN_GET = ClientDataType.GET.getValue().getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBAUTHN_CREATE = ClientDataType.CREATE.getValue().getBytes(StandardCharsets.US_ASCII);
+
+    // a relying party sees only a handful of origins, so parsed Origin instances are shared. The cache is a small LRU,
+    // so that origins sent by misbehaving clients cannot take the place of the relying party's own origins for good
+    private final Map<String, Origin> originCache = new LinkedHashMap<String, Origin>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Origin> eldest) {
+            return size() > MAX_CACHED_ORIGINS;
+        }
+    };
+
+    /**
+     * Reads {@link CollectedClientData} from clientDataJSON
+     *
+     * @param source clientDataJSON
+     * @return the read {@link CollectedClientData}, or null if the source is outside of the supported form
+     */
+    CollectedClientData read(byte[] source) {
+        ClientDataType type = null;
+        Challenge challenge = null;
+        Origin origin = null;
+        boolean crossOriginRead = false;
+
+        int position = skipWhitespace(source, 0);
+        if (position >= source.length || source[position] != '{') {
+            return null;
+        }
+        position++;
+        while (true) {
+            position = skipWhitespace(source, position);
+            int keyStart = position + 1;
+            int keyEnd = findStringEnd(source, position);
+            if (keyEnd < 0) {
+                return null;
+            }
+            position = skipWhitespace(source, keyEnd + 1);
+            if (position >= source.length || source[position] != ':') {
+                return null;
+            }
+            position = skipWhitespace(source, position + 1);
+            int valueEnd;
+            if (equals(source, keyStart, keyEnd, CROSS_ORIGIN) && !crossOriginRead) {
+                // sent by current browsers on every ceremony. CollectedClientData doesn't hold it, so it is skipped
+                // as Jackson does
+                valueEnd = findBooleanEnd(source, position);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                crossOriginRead = true;
+            } else {
+                int valueStart = position + 1;
+                valueEnd = findStringEnd(source, position);
+                if (valueEnd < 0) {
+                    return null;
+                }
+
+                if (equals(source, keyStart, keyEnd, TYPE) && type == null) {
+                    type = readType(source, valueStart, valueEnd);
+                    if (type == null) {
+                        return null;
+                    }
+                } else if (equals(source, keyStart, keyEnd, CHALLENGE) && challenge == null) {
+                    challenge = readChallenge(source, valueStart, valueEnd);
+                    if (challenge == null) {
+                        return null;
+                    }
+                } else if (equals(source, keyStart, keyEnd, ORIGIN) && origin == null) {
+                    origin = readOrigin(source, valueStart, valueEnd);
+                    if (origin == null) {
+                        return null;
+                    }
+                } else {
+                    return null;
+                }
+            }
+
+            position = skipWhitespace(source, valueEnd + 1);
+            if (position >= source.length) {
+                return null;
+            }
+            if (source[position] == '}') {
+                break;
+            }
+            if (source[position] != ',') {
+                return null;
+            }
+            position++;
+        }
+        if (skipWhitespace(source, position + 1) != source.length || type == null || challenge == null || origin == null) {
+            return null;
+        }
+        return new CollectedClientData(type, challenge, origin, null);
+    }
+
+    private ClientDataType readType(byte[] source, int start, int end) {
+        if (equals(source, start, end, WEBAUTHN_GET)) {
+            return ClientDataType.GET;
+        }
+        if (equals(source, start, end, WEBAUTHN_CREATE)) {
+            return ClientDataType.CREATE;
+        }
+        return null;
+    }
+
+    private Challenge readChallenge(byte[] source, int start, int end) {
+        try {
+            return new DefaultChallenge(Base64UrlUtil.decode(source, start, end - start));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Origin readOrigin(byte[] source, int start, int end) {
+        String value = new String(source, start, end - start, StandardCharsets.US_ASCII);
+        Origin origin;
+        synchronized (originCache) {
+            origin = originCache.get(value);
+        }
+        if (origin != null) {
+            return origin;
+        }
+        try {
+            origin = Origin.create(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        synchronized (originCache) {
+            originCache.put(value, origin);
+        }
+        return origin;
+    }
+
+    /**
+     * Returns the index of the closing quote of the string starting at the specified position,
+     * or -1 if there is no such string, or it contains escape sequences, control or non-ASCII characters
+     */
+    private static int findStringEnd(byte[] source, int position) {
+        if (position >= source.length || source[position] != '"') {
+            return -1;
+        }
+        for (int i = position + 1; i < source.length; i++) {
+            byte b = source[i];
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\' || b < 0x20) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last character of the true or false literal starting at the specified position,
+     * or -1 if there is no such literal
+     */
+    private static int findBooleanEnd(byte[] source, int position) {
+        if (equals(source, position, Math.min(position + TRUE.length, source.length), TRUE)) {
+            return position + TRUE.length - 1;
+        }
+        if (equals(source, position, Math.min(position + FALSE.length, source.length), FALSE)) {
+            return position + FALSE.length - 1;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] source, int position) {
+        while (position < source.length) {
+            byte b = source[position];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean equals(byte[] source, int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (source[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
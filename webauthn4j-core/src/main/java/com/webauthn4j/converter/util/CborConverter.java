@@ -57,6 +57,16 @@ public class CborConverter implements Serializable {
         }
     }
 
+    public <T> T readValue(byte[] src, int offset, int length, Class<T> valueType) {
+        try {
+            return cborMapper.readValue(src, offset, length, valueType);
+        } catch (MismatchedInputException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public <T> T readValue(InputStream src, Class<T> valueType) {
         try {
             return cborMapper.readValue(src, valueType);
@@ -77,6 +87,16 @@ public class CborConverter implements Serializable {
         }
     }
 
+    public <T> T readValue(byte[] src, int offset, int length, TypeReference<T> valueTypeRef) {
+        try {
+            return cborMapper.readValue(src, offset, length, valueTypeRef);
+        } catch (MismatchedInputException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public <T> T readValue(InputStream src, TypeReference<T> valueTypeRef) {
         try {
             return cborMapper.readValue(src, valueTypeRef);
@@ -90,6 +90,18 @@ public class AuthenticationData implements Serializable {
         return ArrayUtil.clone(signature);
     }
 
+    byte[] getAuthenticatorDataBytesWithoutCopy() {
+        return authenticatorDataBytes;
+    }
+
+    byte[] getCollectedClientDataBytesWithoutCopy() {
+        return collectedClientDataBytes;
+    }
+
+    byte[] getSignatureWithoutCopy() {
+        return signature;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data;
+
+/**
+ * Outcome of validating one {@link AuthenticationRequest} in a batch
+ */
+public class AuthenticationResult {
+
+    private final AuthenticationData authenticationData;
+    private final RuntimeException exception;
+
+    public AuthenticationResult(AuthenticationData authenticationData, RuntimeException exception) {
+        this.authenticationData = authenticationData;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the parsed authentication data, or null if the request could not be parsed
+     *
+     * @return authentication data
+     */
+    public AuthenticationData getAuthenticationData() {
+        return authenticationData;
+    }
+
+    /**
+     * Returns the exception the request was rejected with, or null if it was valid
+     *
+     * @return exception
+     */
+    public RuntimeException getException() {
+        return exception;
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
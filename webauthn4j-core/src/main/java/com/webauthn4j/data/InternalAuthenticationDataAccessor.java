@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+/**
+ * Internal accessor to the byte arrays held by {@link AuthenticationData} without copying them.
+ * Not part of the public API. The returned arrays are shared and must not be modified.
+ */
+public final class InternalAuthenticationDataAccessor {
+
+    private InternalAuthenticationDataAccessor() {
+    }
+
+    public static byte[] getAuthenticatorDataBytes(AuthenticationData authenticationData) {
+        return authenticationData.getAuthenticatorDataBytesWithoutCopy();
+    }
+
+    public static byte[] getCollectedClientDataBytes(AuthenticationData authenticationData) {
+        return authenticationData.getCollectedClientDataBytesWithoutCopy();
+    }
+
+    public static byte[] getSignature(AuthenticationData authenticationData) {
+        return authenticationData.getSignatureWithoutCopy();
+    }
+}
@@ -51,6 +51,8 @@ public class EC2COSEKey extends AbstractCOSEKey implements Serializable {
     @JsonProperty("-4")
     private byte[] d;
 
+    private transient volatile PublicKey cachedPublicKey;
+
     /**
      * Constructor for key pair
      *
@@ -209,20 +211,28 @@ public class EC2COSEKey extends AbstractCOSEKey implements Serializable {
         return ArrayUtil.clone(d);
     }
 
+    /**
+     * Returns the public key as {@link PublicKey}.
+     * The materialized key is cached as it is immutable, and rebuilt lazily after deserialization.
+     *
+     * @return the public key, or null if x or y is absent
+     */
     @Override
     public PublicKey getPublicKey() {
-
-        if (!hasPublicKey()) {
-            return null;
+        PublicKey publicKey = cachedPublicKey;
+        if (publicKey == null) {
+            if (!hasPublicKey()) {
+                return null;
+            }
+            ECPoint ecPoint = new ECPoint(
+                    new BigInteger(1, x),
+                    new BigInteger(1, y)
+            );
+            ECPublicKeySpec spec = new ECPublicKeySpec(ecPoint, curve.getECParameterSpec());
+            publicKey = ECUtil.createPublicKey(spec);
+            cachedPublicKey = publicKey;
         }
-
-        ECPoint ecPoint = new ECPoint(
-                new BigInteger(1, getX()),
-                new BigInteger(1, getY())
-        );
-        ECPublicKeySpec spec = new ECPublicKeySpec(ecPoint, curve.getECParameterSpec());
-
-        return ECUtil.createPublicKey(spec);
+        return publicKey;
     }
 
     @Override
@@ -55,6 +55,8 @@ public class RSACOSEKey extends AbstractCOSEKey {
     @JsonProperty("-8")
     private byte[] qInv;
 
+    private transient volatile PublicKey cachedPublicKey;
+
     /**
      * Constructor for key pair
      *
@@ -206,16 +208,27 @@ public class RSACOSEKey extends AbstractCOSEKey {
         return n != null && d != null;
     }
 
+    /**
+     * Returns the public key as {@link PublicKey}.
+     * The materialized key is cached as it is immutable, and rebuilt lazily after deserialization.
+     *
+     * @return the public key, or null if n or e is absent
+     */
     @Override
     public PublicKey getPublicKey() {
-        if (!hasPublicKey()) {
-            return null;
+        PublicKey publicKey = cachedPublicKey;
+        if (publicKey == null) {
+            if (!hasPublicKey()) {
+                return null;
+            }
+            RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                    new BigInteger(1, n),
+                    new BigInteger(1, e)
+            );
+            publicKey = RSAUtil.createPublicKey(spec);
+            cachedPublicKey = publicKey;
         }
-        RSAPublicKeySpec spec = new RSAPublicKeySpec(
-                new BigInteger(1, getN()),
-                new BigInteger(1, getE())
-        );
-        return RSAUtil.createPublicKey(spec);
+        return publicKey;
     }
 
     @Override
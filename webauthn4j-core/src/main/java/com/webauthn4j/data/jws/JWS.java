@@ -18,7 +18,8 @@ package com.webauthn4j.data.jws;
 
 import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.Base64UrlUtil;
-import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.CryptoEngineProvider;
+import com.webauthn4j.util.CryptoEngineUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,8 +71,9 @@ public class JWS<T extends Serializable> implements Serializable {
      */
     public boolean isValidSignature() {
         String signedData = headerString + "." + payloadString;
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        Signature signatureObj = cryptoEngineProvider.getSignature(header.getAlg().getJcaName());
         try {
-            Signature signatureObj = SignatureUtil.createSignature(header.getAlg().getJcaName());
             PublicKey publicKey = header.getX5c().getEndEntityAttestationCertificate().getCertificate().getPublicKey();
             signatureObj.initVerify(publicKey);
             signatureObj.update(signedData.getBytes());
@@ -85,6 +87,8 @@ public class JWS<T extends Serializable> implements Serializable {
         } catch (SignatureException | InvalidKeyException e) {
             logger.debug("Signature verification failed", e);
             return false;
+        } finally {
+            cryptoEngineProvider.release(signatureObj);
         }
     }
 
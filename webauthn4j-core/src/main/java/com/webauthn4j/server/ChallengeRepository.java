@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+
+/**
+ * Stores issued challenges until they are consumed by the ceremony they were issued for, or expire
+ */
+public interface ChallengeRepository {
+
+    /**
+     * Stores the challenge under the key, replacing the one stored before
+     *
+     * @param key       key of the ceremony, e.g. a session ID
+     * @param challenge challenge
+     */
+    void save(String key, Challenge challenge);
+
+    /**
+     * Atomically removes the challenge stored under the key and returns it. A challenge can be consumed only once.
+     *
+     * @param key key of the ceremony
+     * @return the challenge, or null if none is stored or it expired
+     */
+    Challenge consume(String key);
+
+    /**
+     * Generates a new challenge and stores it under the key
+     *
+     * @param key key of the ceremony
+     * @return the generated challenge
+     */
+    default Challenge issue(String key) {
+        Challenge challenge = new DefaultChallenge();
+        save(key, challenge);
+        return challenge;
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.AssertUtil;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory {@link ChallengeRepository} for high concurrency.
+ * <p>
+ * Challenges are spread over independently locked shards by key, so concurrent ceremonies rarely contend.
+ * Expiry is tracked on a hashed timing wheel covering twice the TTL: each challenge is added to the bucket of the
+ * tick it expires in, and buckets whose tick has passed are swept by whichever thread saves or consumes next,
+ * so no background thread is needed. {@link #consume(String)} checks the expiry itself, so an expired challenge
+ * is never returned even if its bucket is not swept yet.
+ */
+public class InMemoryChallengeRepository implements ChallengeRepository {
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    private static final int WHEEL_SIZE = 64;
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final long ttlMillis;
+    private final long tickMillis;
+    private final Shard[] shards;
+    private final List<Queue<Entry>> wheel;
+    private final Clock clock;
+
+    private final ReentrantLock expiryLock = new ReentrantLock();
+    private volatile long expiredTick;
+
+    public InMemoryChallengeRepository(Duration ttl, int shardCount) {
+        this(ttl, shardCount, Clock.systemUTC());
+    }
+
+    public InMemoryChallengeRepository(Duration ttl) {
+        this(ttl, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public InMemoryChallengeRepository() {
+        this(DEFAULT_TTL);
+    }
+
+    InMemoryChallengeRepository(Duration ttl, int shardCount, Clock clock) {
+        AssertUtil.notNull(ttl, "ttl must not be null");
+        AssertUtil.isTrue(!ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+        AssertUtil.isTrue(shardCount > 0, "shardCount must be positive");
+        AssertUtil.notNull(clock, "clock must not be null");
+        this.ttlMillis = ttl.toMillis();
+        this.tickMillis = Math.max(1, ttlMillis / (WHEEL_SIZE / 2));
+        this.clock = clock;
+
+        // round up to a power of two, so that the shard can be selected by masking the hash
+        int size = Integer.highestOneBit(shardCount);
+        this.shards = new Shard[size < shardCount ? size << 1 : size];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+        }
+        this.wheel = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+        this.expiredTick = clock.millis() / tickMillis - 1;
+    }
+
+    @Override
+    public void save(String key, Challenge challenge) {
+        AssertUtil.notNull(key, "key must not be null");
+        AssertUtil.notNull(challenge, "challenge must not be null");
+        long now = clock.millis();
+        Entry entry = new Entry(key, challenge, now + ttlMillis);
+        getShard(key).put(entry);
+        wheel.get(getBucketIndex(entry.expiresAt)).add(entry);
+        expireIfDue(now);
+    }
+
+    @Override
+    public Challenge consume(String key) {
+        AssertUtil.notNull(key, "key must not be null");
+        long now = clock.millis();
+        Entry entry = getShard(key).remove(key);
+        expireIfDue(now);
+        if (entry == null || entry.expiresAt <= now) {
+            return null;
+        }
+        return entry.challenge;
+    }
+
+    /**
+     * Removes the expired challenges, waiting for a sweep already running on another thread
+     */
+    public void expire() {
+        long now = clock.millis();
+        expiryLock.lock();
+        try {
+            sweep(now);
+        } finally {
+            expiryLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stored challenges, including expired ones not swept yet
+     *
+     * @return number of stored challenges
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private void expireIfDue(long now) {
+        if (now / tickMillis - 1 <= expiredTick || !expiryLock.tryLock()) {
+            return;
+        }
+        try {
+            sweep(now);
+        } finally {
+            expiryLock.unlock();
+        }
+    }
+
+    /**
+     * Sweeps the buckets of the ticks which have completely passed. Must be called with the expiryLock held.
+     */
+    private void sweep(long now) {
+        long lastTick = now / tickMillis - 1;
+        // visiting every bucket once covers the whole wheel, however long it has not been swept
+        long firstTick = Math.max(expiredTick + 1, lastTick - WHEEL_SIZE + 1);
+        for (long tick = firstTick; tick <= lastTick; tick++) {
+            Queue<Entry> bucket = wheel.get((int) (tick & (WHEEL_SIZE - 1)));
+            List<Entry> notExpired = new ArrayList<>();
+            Entry entry;
+            while ((entry = bucket.poll()) != null) {
+                if (entry.expiresAt <= now) {
+                    getShard(entry.key).remove(entry.key, entry);
+                } else {
+                    // a later round of the wheel, only possible after a long pause
+                    notExpired.add(entry);
+                }
+            }
+            bucket.addAll(notExpired);
+        }
+        if (lastTick > expiredTick) {
+            expiredTick = lastTick;
+        }
+    }
+
+    private int getBucketIndex(long expiresAt) {
+        return (int) ((expiresAt / tickMillis) & (WHEEL_SIZE - 1));
+    }
+
+    private Shard getShard(String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    private static class Shard {
+
+        private final Map<String, Entry> entries = new HashMap<>();
+
+        synchronized void put(Entry entry) {
+            entries.put(entry.key, entry);
+        }
+
+        synchronized Entry remove(String key) {
+            return entries.remove(key);
+        }
+
+        synchronized void remove(String key, Entry entry) {
+            entries.remove(key, entry);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static class Entry {
+
+        private final String key;
+        private final Challenge challenge;
+        private final long expiresAt;
+
+        Entry(String key, Challenge challenge, long expiresAt) {
+            this.key = key;
+            this.challenge = challenge;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.webauthn4j.server;
 
 import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.AssertUtil;
 
 import java.io.Serializable;
 import java.util.Arrays;
@@ -46,6 +47,45 @@ public class ServerProperty implements Serializable {
         this.tokenBindingId = tokenBindingId;
     }
 
+    // ~ Factory methods
+    // ========================================================================================================
+
+    /**
+     * Creates a {@link ServerProperty} with the challenge consumed from the {@link ChallengeRepository}.
+     * If no challenge is stored under the key or it expired, the challenge is null and validation fails with
+     * {@link com.webauthn4j.validator.exception.MissingChallengeException}.
+     *
+     * @param origin              origin
+     * @param rpId                rpId
+     * @param challengeRepository challenge repository
+     * @param challengeKey        key the challenge was stored under
+     * @param tokenBindingId      tokenBindingId
+     * @return the {@link ServerProperty}
+     */
+    public static ServerProperty create(Origin origin, String rpId, ChallengeRepository challengeRepository, String challengeKey, byte[] tokenBindingId) {
+        AssertUtil.notNull(challengeRepository, "challengeRepository must not be null");
+        return new ServerProperty(origin, rpId, challengeRepository.consume(challengeKey), tokenBindingId);
+    }
+
+    /**
+     * Creates a {@link ServerProperty} with the challenge collected from the client, after verifying that it was
+     * issued by the {@link StatelessChallengeCodec} for the session and has not expired.
+     *
+     * @param origin             origin
+     * @param rpId               rpId
+     * @param codec              codec the challenge was issued by
+     * @param collectedChallenge challenge collected from the client data
+     * @param sessionBinding     bytes identifying the session the challenge was issued for, or null
+     * @param tokenBindingId     tokenBindingId
+     * @return the {@link ServerProperty}
+     * @throws com.webauthn4j.validator.exception.BadChallengeException if the challenge does not pass verification
+     */
+    public static ServerProperty create(Origin origin, String rpId, StatelessChallengeCodec codec, Challenge collectedChallenge, byte[] sessionBinding, byte[] tokenBindingId) {
+        AssertUtil.notNull(codec, "codec must not be null");
+        codec.verify(collectedChallenge, sessionBinding);
+        return new ServerProperty(origin, rpId, collectedChallenge, tokenBindingId);
+    }
+
     // ~ Methods
     // ========================================================================================================
 
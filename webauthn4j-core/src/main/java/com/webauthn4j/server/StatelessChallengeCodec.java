@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.util.ArrayUtil;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MACUtil;
+import com.webauthn4j.validator.exception.BadChallengeException;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Issues and verifies challenges that carry their own proof of origin, so that no challenge store has to be shared
+ * between the nodes of a relying party.
+ * <p>
+ * A challenge consists of a format version, the ID of the key it is authenticated with, the issue time and a random
+ * nonce, followed by an HMAC-SHA256 over these fields and a session binding, e.g. the session ID. A challenge is
+ * accepted by {@link #verify(Challenge, byte[])} only with the same session binding, within its time to live.
+ * Keys can be rotated by issuing with a new current key while keeping the previous one for verification until
+ * the challenges issued with it have expired.
+ * <p>
+ * Unlike a {@link ChallengeRepository}, this does not prevent a challenge from being used more than once within its
+ * time to live, so the time to live should be kept as short as the ceremony allows.
+ */
+public class StatelessChallengeCodec {
+
+    private static final byte VERSION = 1;
+    private static final int NONCE_LENGTH = 16;
+    private static final int MAC_LENGTH = 32;
+    private static final int HEADER_LENGTH = 1 + 1 + 8 + NONCE_LENGTH;
+    private static final int CHALLENGE_LENGTH = HEADER_LENGTH + MAC_LENGTH;
+    private static final int MIN_KEY_LENGTH = 32;
+    private static final Duration ALLOWED_CLOCK_SKEW = Duration.ofSeconds(30);
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Map<Integer, byte[]> keys;
+    private final int currentKeyId;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * @param keys         HMAC keys by key ID (0-255), each at least 256 bits long
+     * @param currentKeyId ID of the key new challenges are authenticated with
+     * @param ttl          time to live of a challenge
+     */
+    public StatelessChallengeCodec(Map<Integer, byte[]> keys, int currentKeyId, Duration ttl) {
+        this(keys, currentKeyId, ttl, Clock.systemUTC());
+    }
+
+    public StatelessChallengeCodec(byte[] key, Duration ttl) {
+        this(createKeys(key), 0, ttl);
+    }
+
+    StatelessChallengeCodec(Map<Integer, byte[]> keys, int currentKeyId, Duration ttl, Clock clock) {
+        AssertUtil.notNull(keys, "keys must not be null");
+        AssertUtil.notNull(ttl, "ttl must not be null");
+        AssertUtil.notNull(clock, "clock must not be null");
+        AssertUtil.isTrue(!ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+        AssertUtil.isTrue(keys.containsKey(currentKeyId), "keys must contain currentKeyId");
+        Map<Integer, byte[]> copiedKeys = new HashMap<>();
+        keys.forEach((keyId, key) -> {
+            AssertUtil.isTrue(keyId != null && keyId >= 0 && keyId <= 0xFF, "key ID must be between 0 and 255");
+            AssertUtil.isTrue(key != null && key.length >= MIN_KEY_LENGTH, "key must be at least 256 bits long");
+            copiedKeys.put(keyId, ArrayUtil.clone(key));
+        });
+        this.keys = copiedKeys;
+        this.currentKeyId = currentKeyId;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    private static Map<Integer, byte[]> createKeys(byte[] key) {
+        Map<Integer, byte[]> keys = new HashMap<>();
+        keys.put(0, key);
+        return keys;
+    }
+
+    /**
+     * Issues a challenge bound to the session
+     *
+     * @param sessionBinding bytes identifying the session, e.g. the session ID, or null
+     * @return the challenge
+     */
+    public Challenge issue(byte[] sessionBinding) {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        secureRandom.nextBytes(nonce);
+        ByteBuffer buffer = ByteBuffer.allocate(CHALLENGE_LENGTH)
+                .put(VERSION)
+                .put((byte) currentKeyId)
+                .putLong(clock.millis())
+                .put(nonce);
+        buffer.put(calculateMac(buffer.array(), sessionBinding, keys.get(currentKeyId)));
+        return new DefaultChallenge(buffer.array());
+    }
+
+    /**
+     * Verifies that the challenge was issued by this codec for the session and has not expired
+     *
+     * @param challenge      challenge collected from the client
+     * @param sessionBinding bytes identifying the session the challenge was issued for, or null
+     * @throws BadChallengeException if the challenge is malformed, forged, issued for another session or expired
+     */
+    public void verify(Challenge challenge, byte[] sessionBinding) {
+        AssertUtil.notNull(challenge, "challenge must not be null");
+        byte[] value = challenge.getValue();
+        if (value.length != CHALLENGE_LENGTH || value[0] != VERSION) {
+            throw new BadChallengeException("The challenge is not issued by StatelessChallengeCodec");
+        }
+        byte[] key = keys.get(value[1] & 0xFF);
+        if (key == null) {
+            throw new BadChallengeException("The challenge is authenticated with an unknown key");
+        }
+        byte[] mac = calculateMac(value, sessionBinding, key);
+        if (!MessageDigest.isEqual(mac, Arrays.copyOfRange(value, HEADER_LENGTH, CHALLENGE_LENGTH))) {
+            throw new BadChallengeException("The challenge MAC does not match");
+        }
+        long issuedAt = ByteBuffer.wrap(value, 2, 8).getLong();
+        long now = clock.millis();
+        if (issuedAt > now + ALLOWED_CLOCK_SKEW.toMillis()) {
+            throw new BadChallengeException("The challenge is issued in the future");
+        }
+        if (now >= issuedAt + ttlMillis) {
+            throw new BadChallengeException("The challenge is expired");
+        }
+    }
+
+    private static byte[] calculateMac(byte[] challengeValue, byte[] sessionBinding, byte[] key) {
+        byte[] binding = sessionBinding == null ? new byte[0] : sessionBinding;
+        byte[] message = ByteBuffer.allocate(HEADER_LENGTH + binding.length)
+                .put(challengeValue, 0, HEADER_LENGTH)
+                .put(binding)
+                .array();
+        return MACUtil.calculateHmacSHA256(message, key, MAC_LENGTH);
+    }
+}
@@ -17,14 +17,15 @@
 package com.webauthn4j.validator;
 
 import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.InternalAuthenticationDataAccessor;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
 import com.webauthn4j.data.attestation.statement.SignatureAlgorithm;
-import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.CryptoEngineProvider;
+import com.webauthn4j.util.CryptoEngineUtil;
 import com.webauthn4j.validator.exception.BadSignatureException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.ByteBuffer;
 import java.security.*;
 
 /**
@@ -32,41 +33,60 @@ import java.security.*;
  */
 class AssertionSignatureValidator {
 
+    private static final int SHA_256_LENGTH = 32;
+    private static final ThreadLocal<byte[]> CLIENT_DATA_HASH_BUFFER = ThreadLocal.withInitial(() -> new byte[SHA_256_LENGTH]);
+
     final Logger logger = LoggerFactory.getLogger(AssertionSignatureValidator.class);
 
     // ~ Methods
     // ========================================================================================================
 
     public void validate(AuthenticationData authenticationData, COSEKey coseKey) {
-        byte[] signedData = getSignedData(authenticationData);
-        byte[] signature = authenticationData.getSignature();
-        if (!verifySignature(coseKey, signature, signedData)) {
+        if (!verifySignature(authenticationData, coseKey)) {
             throw new BadSignatureException("Assertion signature is not valid.");
         }
     }
 
-    private byte[] getSignedData(AuthenticationData authenticationData) {
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-        byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
-        byte[] clientDataHash = messageDigest.digest(authenticationData.getCollectedClientDataBytes());
-        return ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
+    /**
+     * Feeds the signed data, authenticatorData || SHA-256(clientDataJSON), to the verifier in two updates
+     * instead of concatenating it into a new array. The clientDataHash is written into a per-thread buffer, and the
+     * bytes are read from {@link AuthenticationData} without the defensive copies its getters make.
+     */
+    private void updateSignedData(Signature verifier, AuthenticationData authenticationData) throws SignatureException, DigestException {
+        byte[] clientDataHash = CLIENT_DATA_HASH_BUFFER.get();
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        MessageDigest messageDigest = cryptoEngineProvider.getMessageDigest("SHA-256");
+        try {
+            messageDigest.update(InternalAuthenticationDataAccessor.getCollectedClientDataBytes(authenticationData));
+            messageDigest.digest(clientDataHash, 0, clientDataHash.length);
+        } finally {
+            cryptoEngineProvider.release(messageDigest);
+        }
+        verifier.update(InternalAuthenticationDataAccessor.getAuthenticatorDataBytes(authenticationData));
+        verifier.update(clientDataHash);
     }
 
-    private boolean verifySignature(COSEKey coseKey, byte[] signature, byte[] data) {
+    private boolean verifySignature(AuthenticationData authenticationData, COSEKey coseKey) {
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        Signature verifier = null;
         try {
             PublicKey publicKey = coseKey.getPublicKey();
             SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.create(coseKey.getAlgorithm());
             String jcaName = signatureAlgorithm.getJcaName();
-            Signature verifier = Signature.getInstance(jcaName);
+            verifier = cryptoEngineProvider.getSignature(jcaName);
             verifier.initVerify(publicKey);
-            verifier.update(data);
-            return verifier.verify(signature);
+            updateSignedData(verifier, authenticationData);
+            return verifier.verify(InternalAuthenticationDataAccessor.getSignature(authenticationData));
         } catch (IllegalArgumentException e) {
             logger.debug("COSE key alg must be signature algorithm.", e);
             return false;
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | RuntimeException e) {
+        } catch (SignatureException | InvalidKeyException | DigestException | RuntimeException e) {
             logger.debug("Unexpected exception is thrown during signature verification.", e);
             return false;
+        } finally {
+            if (verifier != null) {
+                cryptoEngineProvider.release(verifier);
+            }
         }
     }
 
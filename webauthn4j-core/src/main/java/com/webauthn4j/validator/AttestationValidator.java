@@ -62,6 +62,10 @@ class AttestationValidator {
 
 
     public void validate(RegistrationObject registrationObject) {
+        validate(registrationObject, new NullWebAuthnMetrics());
+    }
+
+    void validate(RegistrationObject registrationObject, WebAuthnMetrics webAuthnMetrics) {
 
         AttestationObject attestationObject = registrationObject.getAttestationObject();
 
@@ -76,7 +80,7 @@ class AttestationValidator {
 
         //spec| Note: Each attestation statement format specifies its own verification procedure. See §8 Defined Attestation
         //spec| Statement Formats for the initially-defined formats, and  [WebAuthn-Registries] for the up-to-date list.
-        AttestationType attestationType = validateAttestationStatement(registrationObject);
+        AttestationType attestationType = validateAttestationStatement(registrationObject, webAuthnMetrics);
 
         validateAAGUID(attestationObject);
 
@@ -132,10 +136,15 @@ class AttestationValidator {
         }
     }
 
-    private AttestationType validateAttestationStatement(RegistrationObject registrationObject) {
+    private AttestationType validateAttestationStatement(RegistrationObject registrationObject, WebAuthnMetrics webAuthnMetrics) {
         for (AttestationStatementValidator validator : attestationStatementValidators) {
             if (validator.supports(registrationObject)) {
-                return validator.validate(registrationObject);
+                long start = System.nanoTime();
+                try {
+                    return validator.validate(registrationObject);
+                } finally {
+                    webAuthnMetrics.recordAttestationFormat(registrationObject.getAttestationObject().getFormat(), System.nanoTime() - start);
+                }
             }
         }
 
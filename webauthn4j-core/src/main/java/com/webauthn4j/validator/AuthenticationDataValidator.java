@@ -17,8 +17,10 @@
 package com.webauthn4j.validator;
 
 import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.authenticator.SignCounterRepository;
 import com.webauthn4j.data.AuthenticationData;
 import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationResult;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.client.ClientDataType;
 import com.webauthn4j.data.client.CollectedClientData;
@@ -34,11 +36,20 @@ import com.webauthn4j.validator.exception.UserNotPresentException;
 import com.webauthn4j.validator.exception.UserNotVerifiedException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 
 public class AuthenticationDataValidator {
 
+    private static final int RPID_HASH_LENGTH = 32;
+    private static final int FLAGS_INDEX = RPID_HASH_LENGTH;
+
     private final ChallengeValidator challengeValidator = new ChallengeValidator();
     private final OriginValidator originValidator = new OriginValidator();
     private final TokenBindingValidator tokenBindingValidator = new TokenBindingValidator();
@@ -49,6 +60,9 @@ public class AuthenticationDataValidator {
     private final List<CustomAuthenticationValidator> customAuthenticationValidators;
 
     private MaliciousCounterValueHandler maliciousCounterValueHandler = new DefaultMaliciousCounterValueHandler();
+    private WebAuthnMetrics webAuthnMetrics = new NullWebAuthnMetrics();
+    private SignCounterRepository signCounterRepository;
+    private Executor signatureValidationExecutor = ForkJoinPool.commonPool();
 
     public AuthenticationDataValidator(List<CustomAuthenticationValidator> customAuthenticationValidators) {
         this.customAuthenticationValidators = customAuthenticationValidators;
@@ -59,9 +73,86 @@ public class AuthenticationDataValidator {
     }
 
     public void validate(AuthenticationData authenticationData, AuthenticationParameters authenticationParameters) {
+        AuthenticationObject authenticationObject = validateBeforeSignature(authenticationData, authenticationParameters);
+        validateSignature(authenticationData, authenticationParameters);
+        validateAfterSignature(authenticationObject);
 
-        BeanAssertUtil.validate(authenticationData);
-        BeanAssertUtil.validate(authenticationParameters);
+        //spec| Step18
+        //spec| If all the above steps are successful, continue with the authentication ceremony as appropriate. Otherwise, fail the authentication ceremony.
+    }
+
+    /**
+     * Validates a batch of authentication data, e.g. assertions collected from concurrent sessions.
+     * <p>
+     * All checks except the signature verification run on the calling thread. Signatures of the items which passed
+     * them are verified on the signature validation executor, except the last one, which is verified on the calling
+     * thread while the others are in flight. The signature counter and custom validators run afterwards on the calling
+     * thread, in the order of the batch. A rejected item does not affect the others.
+     *
+     * @param authenticationDataList       authentication data to be validated
+     * @param authenticationParametersList authentication parameters for each item, in the same order
+     * @return results in the same order as the input
+     */
+    public List<AuthenticationResult> validateAll(List<AuthenticationData> authenticationDataList, List<AuthenticationParameters> authenticationParametersList) {
+        AssertUtil.notNull(authenticationDataList, "authenticationDataList must not be null");
+        AssertUtil.notNull(authenticationParametersList, "authenticationParametersList must not be null");
+        AssertUtil.isTrue(authenticationDataList.size() == authenticationParametersList.size(), "authenticationDataList and authenticationParametersList must have the same size");
+
+        int size = authenticationDataList.size();
+        AuthenticationObject[] authenticationObjects = new AuthenticationObject[size];
+        RuntimeException[] exceptions = new RuntimeException[size];
+        int last = -1;
+        for (int i = 0; i < size; i++) {
+            try {
+                authenticationObjects[i] = validateBeforeSignature(authenticationDataList.get(i), authenticationParametersList.get(i));
+                last = i;
+            } catch (RuntimeException e) {
+                exceptions[i] = e;
+            }
+        }
+
+        List<CompletableFuture<RuntimeException>> signatureValidations = new ArrayList<>(Collections.nCopies(size, null));
+        for (int i = 0; i < last; i++) {
+            if (authenticationObjects[i] != null) {
+                AuthenticationData authenticationData = authenticationDataList.get(i);
+                AuthenticationParameters authenticationParameters = authenticationParametersList.get(i);
+                try {
+                    signatureValidations.set(i, CompletableFuture.supplyAsync(() -> tryValidateSignature(authenticationData, authenticationParameters), signatureValidationExecutor));
+                } catch (RejectedExecutionException e) {
+                    exceptions[i] = tryValidateSignature(authenticationData, authenticationParameters);
+                }
+            }
+        }
+        if (last >= 0) {
+            exceptions[last] = tryValidateSignature(authenticationDataList.get(last), authenticationParametersList.get(last));
+        }
+        for (int i = 0; i < last; i++) {
+            CompletableFuture<RuntimeException> signatureValidation = signatureValidations.get(i);
+            if (signatureValidation != null) {
+                exceptions[i] = signatureValidation.join();
+            }
+        }
+
+        List<AuthenticationResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (exceptions[i] == null) {
+                try {
+                    validateAfterSignature(authenticationObjects[i]);
+                } catch (RuntimeException e) {
+                    exceptions[i] = e;
+                }
+            }
+            results.add(new AuthenticationResult(authenticationDataList.get(i), exceptions[i]));
+        }
+        return results;
+    }
+
+    private AuthenticationObject validateBeforeSignature(AuthenticationData authenticationData, AuthenticationParameters authenticationParameters) {
+
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.INPUT, () -> {
+            BeanAssertUtil.validate(authenticationData);
+            BeanAssertUtil.validate(authenticationParameters);
+        });
 
         //spec| Step1
         //spec| If the allowCredentials option was given when this authentication ceremony was initiated,
@@ -102,11 +193,19 @@ public class AuthenticationDataValidator {
         AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions = authenticationData.getClientExtensions();
         ServerProperty serverProperty = authenticationParameters.getServerProperty();
 
-        BeanAssertUtil.validate(collectedClientData);
-        BeanAssertUtil.validate(authenticatorData);
-        BeanAssertUtil.validate(serverProperty);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.STRUCTURE, () -> {
+            BeanAssertUtil.validate(collectedClientData);
+            BeanAssertUtil.validate(authenticatorData);
+            BeanAssertUtil.validate(serverProperty);
+
+            validateAuthenticatorData(authenticatorData);
 
-        validateAuthenticatorData(authenticatorData);
+            //spec| Step7
+            //spec| Verify that the value of C.type is the string webauthn.get.
+            if (!Objects.equals(collectedClientData.getType(), ClientDataType.GET)) {
+                throw new InconsistentClientDataTypeException("ClientData.type must be 'get' on authentication, but it isn't.");
+            }
+        });
 
         byte[] credentialId = authenticationData.getCredentialId();
         Authenticator authenticator = authenticationParameters.getAuthenticator();
@@ -116,42 +215,34 @@ public class AuthenticationDataValidator {
                 serverProperty, authenticator
         );
 
-        //spec| Step7
-        //spec| Verify that the value of C.type is the string webauthn.get.
-        if (!Objects.equals(collectedClientData.getType(), ClientDataType.GET)) {
-            throw new InconsistentClientDataTypeException("ClientData.type must be 'get' on authentication, but it isn't.");
-        }
-
         //spec| Step8
         //spec| Verify that the value of C.challenge matches the challenge that was sent to the authenticator in
         //spec| the PublicKeyCredentialRequestOptions passed to the get() call.
-        challengeValidator.validate(collectedClientData, serverProperty);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.CHALLENGE, () -> challengeValidator.validate(collectedClientData, serverProperty));
 
         //spec| Step9
         //spec| Verify that the value of C.origin matches the Relying Party's origin.
-        originValidator.validate(collectedClientData, serverProperty);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.ORIGIN, () -> originValidator.validate(collectedClientData, serverProperty));
 
         //spec| Step10
         //spec| Verify that the value of C.tokenBinding.status matches the state of Token Binding for the TLS connection over
         //spec| which the attestation was obtained. If Token Binding was used on that TLS connection,
         //spec| also verify that C.tokenBinding.id matches the base64url encoding of the Token Binding ID for the connection.
-        tokenBindingValidator.validate(collectedClientData.getTokenBinding(), serverProperty.getTokenBindingId());
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.TOKEN_BINDING, () -> tokenBindingValidator.validate(collectedClientData.getTokenBinding(), serverProperty.getTokenBindingId()));
 
         //spec| Step11
         //spec| Verify that the rpIdHash in aData is the SHA-256 hash of the RP ID expected by the Relying Party.
-        rpIdHashValidator.validate(authenticatorData.getRpIdHash(), serverProperty);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.RP_ID_HASH, () -> rpIdHashValidator.validate(authenticatorData.getRpIdHash(), serverProperty));
 
-        //spec| Step12
-        //spec| Verify that the User Present bit of the flags in authData is set.
-        if (authenticationParameters.isUserPresenceRequired() && !authenticatorData.isFlagUP()) {
-            throw new UserNotPresentException("Validator is configured to check user present, but UP flag in authenticatorData is not set.");
-        }
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.USER_FLAGS, () -> {
+            //spec| Step12
+            //spec| Verify that the User Present bit of the flags in authData is set.
+            validateUserPresence(authenticatorData.isFlagUP(), authenticationParameters);
 
-        //spec| Step13
-        //spec| If user verification is required for this assertion, verify that the User Verified bit of the flags in aData is set.
-        if (authenticationParameters.isUserVerificationRequired() && !authenticatorData.isFlagUV()) {
-            throw new UserNotVerifiedException("Validator is configured to check user verified, but UV flag in authenticatorData is not set.");
-        }
+            //spec| Step13
+            //spec| If user verification is required for this assertion, verify that the User Verified bit of the flags in aData is set.
+            validateUserVerification(authenticatorData.isFlagUV(), authenticationParameters);
+        });
 
         //spec| Step14
         //spec| Verify that the values of the client extension outputs in clientExtensionResults and the authenticator
@@ -162,11 +253,41 @@ public class AuthenticationDataValidator {
         //spec| In the general case, the meaning of "are as expected" is specific to the Relying Party and which extensions are in use.
         AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> authenticationExtensionsAuthenticatorOutputs = authenticatorData.getExtensions();
         List<String> expectedExtensionIdentifiers = authenticationParameters.getExpectedExtensionIds();
-        extensionValidator.validate(clientExtensions, authenticationExtensionsAuthenticatorOutputs, expectedExtensionIdentifiers);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.EXTENSIONS, () -> extensionValidator.validate(clientExtensions, authenticationExtensionsAuthenticatorOutputs, expectedExtensionIdentifiers));
+
+        return authenticationObject;
+    }
+
+    private void validateSignature(AuthenticationData authenticationData, AuthenticationParameters authenticationParameters) {
+        Authenticator authenticator = authenticationParameters.getAuthenticator();
 
         //spec| Using the credential public key, validate that sig is a valid signature over
         //spec| the binary concatenation of the authenticatorData and the hash of the collectedClientData.
-        assertionSignatureValidator.validate(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey());
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.SIGNATURE, () -> assertionSignatureValidator.validate(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey()));
+    }
+
+    private RuntimeException tryValidateSignature(AuthenticationData authenticationData, AuthenticationParameters authenticationParameters) {
+        try {
+            validateSignature(authenticationData, authenticationParameters);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private void validateAfterSignature(AuthenticationObject authenticationObject) {
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.COUNTER, () -> validateSignCount(authenticationObject));
+
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.CUSTOM_VALIDATORS, () -> {
+            for (CustomAuthenticationValidator customAuthenticationValidator : customAuthenticationValidators) {
+                customAuthenticationValidator.validate(authenticationObject);
+            }
+        });
+    }
+
+    private void validateSignCount(AuthenticationObject authenticationObject) {
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticationObject.getAuthenticatorData();
+        Authenticator authenticator = authenticationObject.getAuthenticator();
 
         //spec| Step17
         //spec| If the signature counter value adata.signCount is nonzero or the value stored in conjunction with
@@ -176,7 +297,7 @@ public class AuthenticationDataValidator {
         if (presentedCounter > 0 || storedCounter > 0) {
             //spec| If the signature counter value adata.signCount is
             //spec| greater than the signature counter value stored in conjunction with credential’s id attribute.
-            if (presentedCounter > storedCounter) {
+            if (advanceSignCount(authenticationObject.getCredentialId(), storedCounter, presentedCounter)) {
 
                 //spec| Update the stored signature counter value, associated with credential’s id attribute, to be the value of authData.signCount.
 
@@ -188,15 +309,48 @@ public class AuthenticationDataValidator {
                 maliciousCounterValueHandler.maliciousCounterValueDetected(authenticationObject);
             }
         }
+    }
 
-        for (CustomAuthenticationValidator customAuthenticationValidator : customAuthenticationValidators) {
-            customAuthenticationValidator.validate(authenticationObject);
+    private boolean advanceSignCount(byte[] credentialId, long storedCounter, long presentedCounter) {
+        if (signCounterRepository == null) {
+            return presentedCounter > storedCounter;
         }
+        return signCounterRepository.compareAndAdvance(credentialId, storedCounter, presentedCounter);
+    }
 
-        //spec| Step18
-        //spec| If all the above steps are successful, continue with the authentication ceremony as appropriate. Otherwise, fail the authentication ceremony.
+    /**
+     * Validates rpIdHash and flags read at their fixed offsets in the raw authenticatorData.
+     * It is intended to be called before parsing the request, so that an assertion with a wrong rpIdHash or
+     * missing UP/UV flag can be rejected without parsing clientDataJSON, authenticatorData and extensions.
+     * Data too short to contain these fields is left to the parser to report.
+     *
+     * @param authenticatorDataBytes   raw authenticatorData
+     * @param authenticationParameters authentication parameters
+     */
+    public void validateAuthenticatorDataBytes(byte[] authenticatorDataBytes, AuthenticationParameters authenticationParameters) {
+        BeanAssertUtil.validate(authenticationParameters);
+        if (authenticatorDataBytes == null || authenticatorDataBytes.length < FLAGS_INDEX + 1) {
+            return;
+        }
+        // recorded as a stage of its own, as the same checks are recorded again when the parsed data is validated
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.PRECHECK, () -> {
+            rpIdHashValidator.validate(Arrays.copyOf(authenticatorDataBytes, RPID_HASH_LENGTH), authenticationParameters.getServerProperty());
+            byte flags = authenticatorDataBytes[FLAGS_INDEX];
+            validateUserPresence(AuthenticatorData.checkFlagUP(flags), authenticationParameters);
+            validateUserVerification(AuthenticatorData.checkFlagUV(flags), authenticationParameters);
+        });
+    }
 
+    private void validateUserPresence(boolean flagUP, AuthenticationParameters authenticationParameters) {
+        if (authenticationParameters.isUserPresenceRequired() && !flagUP) {
+            throw new UserNotPresentException("Validator is configured to check user present, but UP flag in authenticatorData is not set.");
+        }
+    }
 
+    private void validateUserVerification(boolean flagUV, AuthenticationParameters authenticationParameters) {
+        if (authenticationParameters.isUserVerificationRequired() && !flagUV) {
+            throw new UserNotVerifiedException("Validator is configured to check user verified, but UV flag in authenticatorData is not set.");
+        }
     }
 
     void validateAuthenticatorData(AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData) {
@@ -214,6 +368,44 @@ public class AuthenticationDataValidator {
         this.maliciousCounterValueHandler = maliciousCounterValueHandler;
     }
 
+    public SignCounterRepository getSignCounterRepository() {
+        return signCounterRepository;
+    }
+
+    /**
+     * Sets the repository the signature counter is atomically checked and advanced in, so that concurrent assertions
+     * of the same credential cannot both pass the counter check. If null, the counter is only compared with the one
+     * of the {@link Authenticator} passed in the parameters.
+     *
+     * @param signCounterRepository sign counter repository, or null
+     */
+    public void setSignCounterRepository(SignCounterRepository signCounterRepository) {
+        this.signCounterRepository = signCounterRepository;
+    }
+
+    public WebAuthnMetrics getWebAuthnMetrics() {
+        return webAuthnMetrics;
+    }
+
+    public void setWebAuthnMetrics(WebAuthnMetrics webAuthnMetrics) {
+        AssertUtil.notNull(webAuthnMetrics, "webAuthnMetrics must not be null");
+        this.webAuthnMetrics = webAuthnMetrics;
+    }
+
+    public Executor getSignatureValidationExecutor() {
+        return signatureValidationExecutor;
+    }
+
+    /**
+     * Sets the executor {@link #validateAll(List, List)} verifies signatures on. Defaults to the common pool.
+     *
+     * @param signatureValidationExecutor executor
+     */
+    public void setSignatureValidationExecutor(Executor signatureValidationExecutor) {
+        AssertUtil.notNull(signatureValidationExecutor, "signatureValidationExecutor must not be null");
+        this.signatureValidationExecutor = signatureValidationExecutor;
+    }
+
     public List<CustomAuthenticationValidator> getCustomAuthenticationValidators() {
         return customAuthenticationValidators;
     }
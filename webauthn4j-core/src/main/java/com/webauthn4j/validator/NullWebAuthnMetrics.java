@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.validator;
+
+/**
+ * {@link WebAuthnMetrics} that discards all measurements
+ */
+public class NullWebAuthnMetrics implements WebAuthnMetrics {
+
+    @Override
+    public void recordStage(ValidationStage stage, long durationNanos) {
+        // nop
+    }
+
+    @Override
+    public void recordAttestationFormat(String format, long durationNanos) {
+        // nop
+    }
+
+    @Override
+    public void recordFailure(ValidationStage stage, RuntimeException exception) {
+        // nop
+    }
+
+    @Override
+    public void recordCacheAccess(String cacheName, boolean hit) {
+        // nop
+    }
+}
@@ -58,6 +58,8 @@ public class RegistrationDataValidator {
 
     private final AttestationValidator attestationValidator;
 
+    private WebAuthnMetrics webAuthnMetrics = new NullWebAuthnMetrics();
+
     public RegistrationDataValidator(
             List<AttestationStatementValidator> attestationStatementValidators,
             CertPathTrustworthinessValidator certPathTrustworthinessValidator,
@@ -79,8 +81,10 @@ public class RegistrationDataValidator {
 
     public void validate(RegistrationData registrationData, RegistrationParameters registrationParameters) {
 
-        BeanAssertUtil.validate(registrationData);
-        BeanAssertUtil.validate(registrationParameters);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.INPUT, () -> {
+            BeanAssertUtil.validate(registrationData);
+            BeanAssertUtil.validate(registrationParameters);
+        });
 
         byte[] clientDataBytes = registrationData.getCollectedClientDataBytes();
         byte[] attestationObjectBytes = registrationData.getAttestationObjectBytes();
@@ -90,8 +94,6 @@ public class RegistrationDataValidator {
         Set<AuthenticatorTransport> transports = registrationData.getTransports();
         AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions = registrationData.getClientExtensions();
 
-        validateAuthenticatorDataField(attestationObject.getAuthenticatorData());
-
         ServerProperty serverProperty = registrationParameters.getServerProperty();
 
         RegistrationObject registrationObject = new RegistrationObject(
@@ -106,25 +108,29 @@ public class RegistrationDataValidator {
 
         AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData = attestationObject.getAuthenticatorData();
 
-        //spec| Step3
-        //spec| Verify that the value of C.type is webauthn.create.
-        if (!Objects.equals(collectedClientData.getType(), ClientDataType.CREATE)) {
-            throw new InconsistentClientDataTypeException("ClientData.type must be 'create' on registration, but it isn't.");
-        }
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.STRUCTURE, () -> {
+            validateAuthenticatorDataField(authenticatorData);
+
+            //spec| Step3
+            //spec| Verify that the value of C.type is webauthn.create.
+            if (!Objects.equals(collectedClientData.getType(), ClientDataType.CREATE)) {
+                throw new InconsistentClientDataTypeException("ClientData.type must be 'create' on registration, but it isn't.");
+            }
+        });
 
         //spec| Step4
         //spec| Verify that the value of C.challenge matches the challenge that was sent to the authenticator in the create() call.
-        challengeValidator.validate(collectedClientData, serverProperty);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.CHALLENGE, () -> challengeValidator.validate(collectedClientData, serverProperty));
 
         //spec| Step5
         //spec| Verify that the value of C.origin matches the Relying Party's origin.
-        originValidator.validate(collectedClientData, serverProperty);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.ORIGIN, () -> originValidator.validate(collectedClientData, serverProperty));
 
         //spec| Step6
         //spec| Verify that the value of C.tokenBinding.status matches the state of Token Binding for the TLS connection over
         //spec| which the assertion was obtained. If Token Binding was used on that TLS connection, also verify that
         //spec| C.tokenBinding.id matches the base64url encoding of the Token Binding ID for the connection.
-        tokenBindingValidator.validate(collectedClientData.getTokenBinding(), serverProperty.getTokenBindingId());
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.TOKEN_BINDING, () -> tokenBindingValidator.validate(collectedClientData.getTokenBinding(), serverProperty.getTokenBindingId()));
 
         //spec| Step7
         //spec| Compute the hash of response.clientDataJSON using SHA-256.
@@ -135,11 +141,12 @@ public class RegistrationDataValidator {
 
         //spec| Step9
         //spec| Verify that the RP ID hash in authData is indeed the SHA-256 hash of the RP ID expected by the RP.
-        rpIdHashValidator.validate(authenticatorData.getRpIdHash(), serverProperty);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.RP_ID_HASH, () -> rpIdHashValidator.validate(authenticatorData.getRpIdHash(), serverProperty));
 
 
         //spec| Step10, 11
-        validateUVUPFlags(authenticatorData, registrationParameters.isUserVerificationRequired(), registrationParameters.isUserPresenceRequired());
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.USER_FLAGS, () ->
+                validateUVUPFlags(authenticatorData, registrationParameters.isUserVerificationRequired(), registrationParameters.isUserPresenceRequired()));
 
         //spec| Step12
         //spec| Verify that the values of the client extension outputs in clientExtensionResults and the authenticator
@@ -150,10 +157,10 @@ public class RegistrationDataValidator {
         //spec| In the general case, the meaning of "are as expected" is specific to the Relying Party and which extensions are in use.
         AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticationExtensionsAuthenticatorOutputs = authenticatorData.getExtensions();
         List<String> expectedExtensionIdentifiers = registrationParameters.getExpectedExtensionIds();
-        extensionValidator.validate(clientExtensions, authenticationExtensionsAuthenticatorOutputs, expectedExtensionIdentifiers);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.EXTENSIONS, () -> extensionValidator.validate(clientExtensions, authenticationExtensionsAuthenticatorOutputs, expectedExtensionIdentifiers));
 
         //spec| Step13-16,19
-        attestationValidator.validate(registrationObject);
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.ATTESTATION, () -> attestationValidator.validate(registrationObject, webAuthnMetrics));
 
         //spec| Step17
         //spec| Check that the credentialId is not yet registered to any other user. If registration is requested for
@@ -171,9 +178,11 @@ public class RegistrationDataValidator {
         //      (This step is out of WebAuthn4J scope. It's caller's responsibility.)
 
         // validate with custom logic
-        for (CustomRegistrationValidator customRegistrationValidator : customRegistrationValidators) {
-            customRegistrationValidator.validate(registrationObject);
-        }
+        ValidationStageRecorder.record(webAuthnMetrics, ValidationStage.CUSTOM_VALIDATORS, () -> {
+            for (CustomRegistrationValidator customRegistrationValidator : customRegistrationValidators) {
+                customRegistrationValidator.validate(registrationObject);
+            }
+        });
     }
 
     void validateAuthenticatorDataField(AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData) {
@@ -197,6 +206,15 @@ public class RegistrationDataValidator {
         }
     }
 
+    public WebAuthnMetrics getWebAuthnMetrics() {
+        return webAuthnMetrics;
+    }
+
+    public void setWebAuthnMetrics(WebAuthnMetrics webAuthnMetrics) {
+        AssertUtil.notNull(webAuthnMetrics, "webAuthnMetrics must not be null");
+        this.webAuthnMetrics = webAuthnMetrics;
+    }
+
     public List<CustomRegistrationValidator> getCustomRegistrationValidators() {
         return customRegistrationValidators;
     }
@@ -18,12 +18,14 @@ package com.webauthn4j.validator;
 
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.CryptoEngineProvider;
+import com.webauthn4j.util.CryptoEngineUtil;
 import com.webauthn4j.validator.exception.BadRpIdException;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Validates the specified rpIdHash
@@ -33,6 +35,10 @@ class RpIdHashValidator {
     //~ Instance fields
     // ================================================================================================
 
+    private static final int MAX_CACHED_RP_IDS = 64;
+
+    // rpIds are few and fixed per deployment, so their hashes are memoized instead of computed per request
+    private final Map<String, byte[]> rpIdHashCache = new ConcurrentHashMap<>();
 
     // ~ Methods
     // ========================================================================================================
@@ -42,11 +48,31 @@ class RpIdHashValidator {
         String rpId = serverProperty.getRpId();
         AssertUtil.notNull(rpId, "rpId must not be null");
 
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-        byte[] relyingPartyRpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
-        byte[] relyingPartyRpIdHash = messageDigest.digest(relyingPartyRpIdBytes);
-        if (!Arrays.equals(rpIdHash, relyingPartyRpIdHash)) {
+        byte[] relyingPartyRpIdHash = getRpIdHash(rpId);
+        if (!MessageDigest.isEqual(rpIdHash, relyingPartyRpIdHash)) {
             throw new BadRpIdException("rpIdHash doesn't match the hash of preconfigured rpId.");
         }
     }
+
+    private byte[] getRpIdHash(String rpId) {
+        byte[] cached = rpIdHashCache.get(rpId);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] relyingPartyRpIdHash = calculateRpIdHash(rpId);
+        if (rpIdHashCache.size() < MAX_CACHED_RP_IDS) {
+            rpIdHashCache.putIfAbsent(rpId, relyingPartyRpIdHash);
+        }
+        return relyingPartyRpIdHash;
+    }
+
+    private byte[] calculateRpIdHash(String rpId) {
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        MessageDigest messageDigest = cryptoEngineProvider.getMessageDigest("SHA-256");
+        try {
+            return messageDigest.digest(rpId.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            cryptoEngineProvider.release(messageDigest);
+        }
+    }
 }
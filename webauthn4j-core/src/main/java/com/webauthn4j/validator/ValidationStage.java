@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.validator;
+
+/**
+ * Stages of registration and authentication validation reported to {@link WebAuthnMetrics}
+ */
+public enum ValidationStage {
+
+    /**
+     * Parsing clientDataJSON, authenticatorData or attestationObject and client extensions
+     */
+    PARSE,
+    /**
+     * rpIdHash and flags checks on the raw authenticatorData before parsing
+     */
+    PRECHECK,
+    /**
+     * Bean validation of the data and parameters passed to the validator
+     */
+    INPUT,
+    /**
+     * Structural checks of the parsed data and the ClientData.type check
+     */
+    STRUCTURE,
+    CHALLENGE,
+    ORIGIN,
+    TOKEN_BINDING,
+    RP_ID_HASH,
+    /**
+     * User presence and user verification flags
+     */
+    USER_FLAGS,
+    EXTENSIONS,
+    /**
+     * Assertion signature verification
+     */
+    SIGNATURE,
+    /**
+     * Signature counter check
+     */
+    COUNTER,
+    /**
+     * Attestation statement verification and trustworthiness assessment
+     */
+    ATTESTATION,
+    CUSTOM_VALIDATORS
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.validator;
+
+/**
+ * Runs a validation stage and reports its duration and failure to {@link WebAuthnMetrics}
+ */
+class ValidationStageRecorder {
+
+    private ValidationStageRecorder() {
+    }
+
+    static void record(WebAuthnMetrics webAuthnMetrics, ValidationStage stage, Runnable step) {
+        if (webAuthnMetrics instanceof NullWebAuthnMetrics) {
+            step.run();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            webAuthnMetrics.recordFailure(stage, e);
+            throw e;
+        } finally {
+            webAuthnMetrics.recordStage(stage, System.nanoTime() - start);
+        }
+    }
+}
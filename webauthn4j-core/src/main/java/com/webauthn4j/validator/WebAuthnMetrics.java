@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.validator;
+
+/**
+ * Receives measurements of WebAuthn validation, so that they can be exported to a metrics library.
+ * <p>
+ * Implementations are called on the validating thread, so they must be thread-safe and should return quickly.
+ * Configure separate instances on registration and authentication to tell the ceremonies apart.
+ */
+public interface WebAuthnMetrics {
+
+    /**
+     * Records the time spent in a validation stage, whether it succeeded or not
+     *
+     * @param stage         validation stage
+     * @param durationNanos elapsed time in nanoseconds
+     */
+    void recordStage(ValidationStage stage, long durationNanos);
+
+    /**
+     * Records the time spent in verifying an attestation statement
+     *
+     * @param format        attestation statement format identifier
+     * @param durationNanos elapsed time in nanoseconds
+     */
+    void recordAttestationFormat(String format, long durationNanos);
+
+    /**
+     * Records a failure of a validation stage
+     *
+     * @param stage     validation stage
+     * @param exception exception thrown by the stage
+     */
+    void recordFailure(ValidationStage stage, RuntimeException exception);
+
+    /**
+     * Records a lookup in a cache used during validation
+     *
+     * @param cacheName name of the cache
+     * @param hit       true if the lookup was served from the cache
+     */
+    void recordCacheAccess(String cacheName, boolean hit);
+
+}
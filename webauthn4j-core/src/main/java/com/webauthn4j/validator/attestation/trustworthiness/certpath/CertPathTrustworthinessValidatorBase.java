@@ -16,19 +16,33 @@
 
 package com.webauthn4j.validator.attestation.trustworthiness.certpath;
 
+import com.webauthn4j.anchor.IndexedTrustAnchorSet;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
+import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.validator.NullWebAuthnMetrics;
+import com.webauthn4j.validator.WebAuthnMetrics;
 import com.webauthn4j.validator.exception.CertificateException;
 import com.webauthn4j.validator.exception.TrustAnchorNotFoundException;
 
+import javax.security.auth.x500.X500Principal;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public abstract class CertPathTrustworthinessValidatorBase implements CertPathTrustworthinessValidator {
 
+    /**
+     * Name of the cert path validation cache reported to {@link WebAuthnMetrics#recordCacheAccess(String, boolean)}
+     */
+    public static final String CERT_PATH_VALIDATION_CACHE_NAME = "certPathValidation";
+
     private boolean fullChainProhibited = false;
+    private CertPathValidationCache certPathValidationCache = new CertPathValidationCache();
+    private WebAuthnMetrics webAuthnMetrics = new NullWebAuthnMetrics();
 
     public void validate(AAGUID aaguid, CertificateBaseAttestationStatement attestationStatement) {
         CertPath certPath = attestationStatement.getX5c().createCertPath();
@@ -39,8 +53,46 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
             throw new TrustAnchorNotFoundException("TrustAnchors are not found for AAGUID: " + aaguid.toString());
         }
 
+        TrustAnchor trustAnchor = null;
+        if (certPathValidationCache != null) {
+            trustAnchor = certPathValidationCache.get(aaguid, certPath, trustAnchors);
+            webAuthnMetrics.recordCacheAccess(CERT_PATH_VALIDATION_CACHE_NAME, trustAnchor != null);
+        }
+        if (trustAnchor == null) {
+            trustAnchor = validateCertPath(aaguid, certPath, trustAnchors, filterIssuerCandidates(trustAnchors, attestationStatement));
+        }
+        if (fullChainProhibited && certPath.getCertificates().contains(trustAnchor.getTrustedCert())) {
+            throw new CertificateException("`certpath` must not contain full chain.");
+        }
+    }
+
+    /**
+     * Narrows the trust anchors down to the ones that may have issued the last certificate of the x5c,
+     * so that the cost of PKIX validation does not grow with the number of trusted roots
+     */
+    private Set<TrustAnchor> filterIssuerCandidates(Set<TrustAnchor> trustAnchors, CertificateBaseAttestationStatement attestationStatement) {
+        List<X509Certificate> certificates = attestationStatement.getX5c();
+        if (certificates.isEmpty()) {
+            return trustAnchors;
+        }
+        X509Certificate lastCertificate = certificates.get(certificates.size() - 1);
+        if (trustAnchors instanceof IndexedTrustAnchorSet) {
+            return ((IndexedTrustAnchorSet) trustAnchors).findIssuerCandidates(lastCertificate);
+        }
+        X500Principal issuer = lastCertificate.getIssuerX500Principal();
+        Set<TrustAnchor> candidates = new HashSet<>();
+        for (TrustAnchor trustAnchor : trustAnchors) {
+            X509Certificate trustedCert = trustAnchor.getTrustedCert();
+            if (issuer.equals(trustedCert != null ? trustedCert.getSubjectX500Principal() : trustAnchor.getCA())) {
+                candidates.add(trustAnchor);
+            }
+        }
+        return candidates.isEmpty() ? trustAnchors : candidates;
+    }
+
+    private TrustAnchor validateCertPath(AAGUID aaguid, CertPath certPath, Set<TrustAnchor> trustAnchors, Set<TrustAnchor> candidates) {
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(candidates);
         certPathParameters.setPolicyQualifiersRejected(false); // As policy qualifiers are checked manually in attestation statement validator, it is turned off
 
         certPathParameters.setRevocationEnabled(false);
@@ -53,9 +105,10 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         } catch (CertPathValidatorException e) {
             throw new com.webauthn4j.validator.exception.CertificateException("invalid cert path", e);
         }
-        if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
-            throw new CertificateException("`certpath` must not contain full chain.");
+        if (certPathValidationCache != null) {
+            certPathValidationCache.put(aaguid, certPath, trustAnchors, result);
         }
+        return result.getTrustAnchor();
     }
 
     protected abstract Set<TrustAnchor> resolveTrustAnchors(AAGUID aaguid);
@@ -69,4 +122,26 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         this.fullChainProhibited = fullChainProhibited;
     }
 
+    public CertPathValidationCache getCertPathValidationCache() {
+        return certPathValidationCache;
+    }
+
+    /**
+     * Sets the cache of successful cert path validations. Setting null disables caching.
+     *
+     * @param certPathValidationCache {@link CertPathValidationCache}
+     */
+    public void setCertPathValidationCache(CertPathValidationCache certPathValidationCache) {
+        this.certPathValidationCache = certPathValidationCache;
+    }
+
+    public WebAuthnMetrics getWebAuthnMetrics() {
+        return webAuthnMetrics;
+    }
+
+    public void setWebAuthnMetrics(WebAuthnMetrics webAuthnMetrics) {
+        AssertUtil.notNull(webAuthnMetrics, "webAuthnMetrics must not be null");
+        this.webAuthnMetrics = webAuthnMetrics;
+    }
+
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+
+import java.security.MessageDigest;
+import java.security.cert.*;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bounded LRU cache of successful cert path validations.
+ * <p>
+ * An entry is keyed by the AAGUID and the SHA-256 hash of the certificates in the path. It is only used while the
+ * trust anchor set resolved for the request is equal to the one the path was validated against, and until the
+ * earliest notAfter of the certificates involved, so a reloaded trust anchor set or an expired certificate
+ * always leads to a full validation.
+ */
+public class CertPathValidationCache {
+
+    private static final int DEFAULT_MAX_SIZE = 256;
+
+    private final Map<CacheKey, CacheEntry> entries;
+    private final Clock clock;
+
+    public CertPathValidationCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    public CertPathValidationCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    CertPathValidationCache(int maxSize, Clock clock) {
+        AssertUtil.isTrue(maxSize > 0, "maxSize must be positive");
+        AssertUtil.notNull(clock, "clock must not be null");
+        this.clock = clock;
+        this.entries = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the {@link TrustAnchor} the cert path was validated against, if a valid entry exists
+     *
+     * @param aaguid       aaguid
+     * @param certPath     cert path
+     * @param trustAnchors trust anchors resolved for the request
+     * @return the {@link TrustAnchor}, or null if there is no valid entry
+     */
+    public TrustAnchor get(AAGUID aaguid, CertPath certPath, Set<TrustAnchor> trustAnchors) {
+        CacheKey key = new CacheKey(aaguid, hash(certPath));
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis() || !(entry.trustAnchors == trustAnchors || entry.trustAnchors.equals(trustAnchors))) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            return null;
+        }
+        return entry.trustAnchor;
+    }
+
+    /**
+     * Records a successful validation of the cert path
+     *
+     * @param aaguid       aaguid
+     * @param certPath     cert path
+     * @param trustAnchors trust anchors the cert path was validated against
+     * @param result       result of the validation
+     */
+    public void put(AAGUID aaguid, CertPath certPath, Set<TrustAnchor> trustAnchors, PKIXCertPathValidatorResult result) {
+        TrustAnchor trustAnchor = result.getTrustAnchor();
+        long expiresAt = Long.MAX_VALUE;
+        for (Certificate certificate : certPath.getCertificates()) {
+            expiresAt = Math.min(expiresAt, ((X509Certificate) certificate).getNotAfter().getTime());
+        }
+        if (trustAnchor.getTrustedCert() != null) {
+            expiresAt = Math.min(expiresAt, trustAnchor.getTrustedCert().getNotAfter().getTime());
+        }
+        CacheEntry entry = new CacheEntry(trustAnchors, trustAnchor, expiresAt);
+        CacheKey key = new CacheKey(aaguid, hash(certPath));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes all entries
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static byte[] hash(CertPath certPath) {
+        MessageDigest certificateDigest = MessageDigestUtil.createSHA256();
+        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
+        try {
+            for (Certificate certificate : certPath.getCertificates()) {
+                messageDigest.update(certificateDigest.digest(certificate.getEncoded()));
+            }
+        } catch (CertificateEncodingException e) {
+            throw new com.webauthn4j.validator.exception.CertificateException("invalid certificate", e);
+        }
+        return messageDigest.digest();
+    }
+
+    private static class CacheKey {
+
+        private final AAGUID aaguid;
+        private final byte[] certPathHash;
+
+        CacheKey(AAGUID aaguid, byte[] certPathHash) {
+            this.aaguid = aaguid;
+            this.certPathHash = certPathHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey cacheKey = (CacheKey) o;
+            return Objects.equals(aaguid, cacheKey.aaguid) &&
+                    Arrays.equals(certPathHash, cacheKey.certPathHash);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(aaguid);
+            result = 31 * result + Arrays.hashCode(certPathHash);
+            return result;
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final Set<TrustAnchor> trustAnchors;
+        private final TrustAnchor trustAnchor;
+        private final long expiresAt;
+
+        CacheEntry(Set<TrustAnchor> trustAnchors, TrustAnchor trustAnchor, long expiresAt) {
+            this.trustAnchors = trustAnchors;
+            this.trustAnchor = trustAnchor;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -16,14 +16,44 @@
 
 package com.webauthn4j;
 
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.authenticator.AuthenticatorImpl;
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.AuthenticationResult;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.validator.CustomAuthenticationValidator;
+import com.webauthn4j.validator.ValidationStage;
+import com.webauthn4j.validator.WebAuthnMetrics;
+import com.webauthn4j.validator.exception.BadSignatureException;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class WebAuthnAuthenticationManagerTest {
 
@@ -36,5 +66,81 @@ class WebAuthnAuthenticationManagerTest {
         assertThatCode(()-> new WebAuthnAuthenticationManager(customAuthenticationValidators, objectConverter)).doesNotThrowAnyException();
     }
 
+    @Test
+    void validateAsync_with_malformed_request_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        target.setAsyncValidationExecutor(Runnable::run);
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(new byte[32], null, "{".getBytes(StandardCharsets.UTF_8), new byte[32]);
+
+        CompletableFuture<AuthenticationData> future = target.validateAsync(authenticationRequest, createAuthenticationParameters());
+        assertThatThrownBy(future::join).hasCauseInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void validateAsync_with_rejecting_executor_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        target.setAsyncValidationExecutor(command -> {
+            throw new RejectedExecutionException();
+        });
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(new byte[32], null, "{".getBytes(StandardCharsets.UTF_8), new byte[32]);
+
+        CompletableFuture<AuthenticationData> future = target.validateAsync(authenticationRequest, createAuthenticationParameters());
+        assertThatThrownBy(future::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void validate_records_each_stage_once_to_webAuthnMetrics_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        WebAuthnMetrics webAuthnMetrics = mock(WebAuthnMetrics.class);
+        target.getAuthenticationDataValidator().setWebAuthnMetrics(webAuthnMetrics);
+        DefaultChallenge challenge = new DefaultChallenge();
+
+        assertThatThrownBy(() -> target.validate(createAuthenticationRequest(challenge), createAuthenticationParameters(challenge))).isInstanceOf(BadSignatureException.class);
+        verifyStagesRecordedOnce(webAuthnMetrics);
+    }
+
+    @Test
+    void validateAll_records_each_stage_once_to_webAuthnMetrics_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        WebAuthnMetrics webAuthnMetrics = mock(WebAuthnMetrics.class);
+        target.getAuthenticationDataValidator().setWebAuthnMetrics(webAuthnMetrics);
+        DefaultChallenge challenge = new DefaultChallenge();
+
+        List<AuthenticationResult> results = target.validateAll(Collections.singletonList(createAuthenticationRequest(challenge)), Collections.singletonList(createAuthenticationParameters(challenge)));
+        assertThat(results.get(0).getException()).isInstanceOf(BadSignatureException.class);
+        verifyStagesRecordedOnce(webAuthnMetrics);
+    }
+
+    @Test
+    void setAsyncValidationExecutor_with_null_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        assertThatThrownBy(() -> target.setAsyncValidationExecutor(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void verifyStagesRecordedOnce(WebAuthnMetrics webAuthnMetrics) {
+        verify(webAuthnMetrics).recordStage(eq(ValidationStage.PRECHECK), anyLong());
+        verify(webAuthnMetrics).recordStage(eq(ValidationStage.RP_ID_HASH), anyLong());
+        verify(webAuthnMetrics).recordStage(eq(ValidationStage.USER_FLAGS), anyLong());
+        verify(webAuthnMetrics).recordStage(eq(ValidationStage.STRUCTURE), anyLong());
+    }
+
+    private AuthenticationRequest createAuthenticationRequest(DefaultChallenge challenge) {
+        byte[] clientDataJSON = ("{\"type\":\"webauthn.get\",\"challenge\":\"" + Base64UrlUtil.encodeToString(challenge.getValue()) + "\",\"origin\":\"https://example.com\"}").getBytes(StandardCharsets.UTF_8);
+        byte[] rpIdHash = MessageDigestUtil.createSHA256().digest("example.com".getBytes(StandardCharsets.UTF_8));
+        byte[] authenticatorData = ByteBuffer.allocate(37).put(rpIdHash).put(AuthenticatorData.BIT_UP).putInt(1).array();
+        return new AuthenticationRequest(new byte[16], authenticatorData, clientDataJSON, new byte[64]);
+    }
+
+    private AuthenticationParameters createAuthenticationParameters(DefaultChallenge challenge) {
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", challenge, null);
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(AAGUID.ZERO, new byte[16], EC2COSEKey.create(ECUtil.createKeyPair()));
+        return new AuthenticationParameters(serverProperty, new AuthenticatorImpl(attestedCredentialData, null, 0), false);
+    }
+
+    private AuthenticationParameters createAuthenticationParameters() {
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        return new AuthenticationParameters(serverProperty, mock(Authenticator.class), false);
+    }
+
 
 }
\ No newline at end of file
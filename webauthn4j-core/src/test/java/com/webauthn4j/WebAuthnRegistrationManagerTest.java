@@ -17,6 +17,13 @@
 package com.webauthn4j;
 
 import com.webauthn4j.anchor.TrustAnchorsResolver;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.RegistrationParameters;
+import com.webauthn4j.data.RegistrationRequest;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.validator.attestation.statement.androidkey.AndroidKeyAttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
@@ -26,9 +33,12 @@ import com.webauthn4j.validator.attestation.trustworthiness.certpath.TrustAnchor
 import com.webauthn4j.validator.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessValidator;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class WebAuthnRegistrationManagerTest {
 
     @Test
@@ -55,5 +65,17 @@ class WebAuthnRegistrationManagerTest {
         assertThat(WebAuthnRegistrationManager.createNonStrictWebAuthnRegistrationManager()).isNotNull();
     }
 
+    @Test
+    void validateAsync_with_malformed_request_test() {
+        WebAuthnRegistrationManager target = WebAuthnRegistrationManager.createNonStrictWebAuthnRegistrationManager();
+        target.setAsyncValidationExecutor(Runnable::run);
+        RegistrationRequest registrationRequest = new RegistrationRequest(new byte[32], "{".getBytes(StandardCharsets.UTF_8));
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        RegistrationParameters registrationParameters = new RegistrationParameters(serverProperty, false);
+
+        CompletableFuture<RegistrationData> future = target.validateAsync(registrationRequest, registrationParameters);
+        assertThatThrownBy(future::join).hasCauseInstanceOf(DataConversionException.class);
+    }
+
 
 }
\ No newline at end of file
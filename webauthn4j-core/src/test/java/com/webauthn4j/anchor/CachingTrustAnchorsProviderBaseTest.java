@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.TrustAnchor;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CachingTrustAnchorsProviderBaseTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final TestCachingTrustAnchorsProvider target = new TestCachingTrustAnchorsProvider();
+
+    CachingTrustAnchorsProviderBaseTest() {
+        when(clock.millis()).thenReturn(0L);
+        target.setClock(clock);
+    }
+
+    @Test
+    void provide_test() {
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+        assertThat(target.provide()).isSameAs(trustAnchors);
+        assertThat(target.loadCount).isEqualTo(1);
+        assertThrows(UnsupportedOperationException.class, () -> trustAnchors.put(AAGUID.ZERO, Collections.emptySet()));
+    }
+
+    @Test
+    void provide_does_not_reload_without_reloadInterval_test() {
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+        target.sourceVersion = 2;
+        when(clock.millis()).thenReturn(Long.MAX_VALUE);
+
+        assertThat(target.provide()).isSameAs(trustAnchors);
+        assertThat(target.loadCount).isEqualTo(1);
+    }
+
+    @Test
+    void provide_reloads_modified_source_after_reloadInterval_test() {
+        target.setReloadInterval(Duration.ofMinutes(1));
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(1).toMillis());
+        assertThat(target.provide()).isSameAs(trustAnchors);
+        assertThat(target.loadCount).isEqualTo(1);
+
+        target.sourceVersion = 2;
+        when(clock.millis()).thenReturn(Duration.ofMinutes(2).toMillis());
+        assertThat(target.provide()).isNotSameAs(trustAnchors);
+        assertThat(target.loadCount).isEqualTo(2);
+    }
+
+    @Test
+    void provide_keeps_trustAnchors_on_reload_failure_test() {
+        target.setReloadInterval(Duration.ofMinutes(1));
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+
+        target.sourceVersion = 2;
+        target.failure = new IllegalStateException("unavailable");
+        when(clock.millis()).thenReturn(Duration.ofMinutes(1).toMillis());
+        assertThat(target.provide()).isSameAs(trustAnchors);
+    }
+
+    @Test
+    void reload_test() {
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+        target.reload();
+        assertThat(target.provide()).isNotSameAs(trustAnchors);
+        assertThat(target.loadCount).isEqualTo(2);
+    }
+
+    private static class TestCachingTrustAnchorsProvider extends CachingTrustAnchorsProviderBase {
+
+        private int loadCount = 0;
+        private Object sourceVersion = 1;
+        private RuntimeException failure;
+
+        @Override
+        protected Map<AAGUID, Set<TrustAnchor>> loadTrustAnchors() {
+            if (failure != null) {
+                throw failure;
+            }
+            loadCount++;
+            return Collections.singletonMap(AAGUID.NULL, Collections.singleton(new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null)));
+        }
+
+        @Override
+        protected Object getSourceVersion() {
+            return sourceVersion;
+        }
+    }
+}
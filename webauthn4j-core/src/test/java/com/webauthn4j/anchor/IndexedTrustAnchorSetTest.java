@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexedTrustAnchorSetTest {
+
+    private final X509Certificate rootCertificate3tier = TestAttestationUtil.load3tierTestRootCACertificate();
+    private final X509Certificate rootCertificate2tier = TestAttestationUtil.load2tierTestRootCACertificate();
+    private final IndexedTrustAnchorSet target = new IndexedTrustAnchorSet(Arrays.asList(
+            new TrustAnchor(rootCertificate3tier, null),
+            new TrustAnchor(rootCertificate2tier, null)
+    ));
+
+    @Test
+    void findIssuerCandidates_test() {
+        assertThat(target.findIssuerCandidates(TestAttestationUtil.load3tierTestIntermediateCACertificate()))
+                .extracting(TrustAnchor::getTrustedCert).containsExactly(rootCertificate3tier);
+        assertThat(target.findIssuerCandidates(TestAttestationUtil.load2tierTestAuthenticatorAttestationCertificate()))
+                .extracting(TrustAnchor::getTrustedCert).containsExactly(rootCertificate2tier);
+    }
+
+    @Test
+    void findIssuerCandidates_without_candidate_test() {
+        assertThat(target.findIssuerCandidates(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())).isSameAs(target);
+    }
+
+    @Test
+    void unmodifiable_test() {
+        assertThat(target).hasSize(2);
+        assertThrows(UnsupportedOperationException.class, () -> target.add(new TrustAnchor(rootCertificate3tier, null)));
+    }
+}
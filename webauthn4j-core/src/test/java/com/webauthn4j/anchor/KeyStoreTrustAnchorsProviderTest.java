@@ -51,6 +51,23 @@ class KeyStoreTrustAnchorsProviderTest {
         assertThat(trustAnchors).isNotEmpty();
     }
 
+    @Test
+    void provide_returns_cached_trustAnchors_test() throws Exception {
+        target = new KeyStoreTrustAnchorsProvider();
+        Path path = Paths.get(ClassLoader.getSystemResource("com/webauthn4j/anchor/KeyStoreFileTrustAnchorsProviderTest/test.jks").toURI());
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            target.setKeyStore(loadKeyStoreFromStream(inputStream, "password"));
+        }
+
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+        assertThat(target.provide()).isSameAs(trustAnchors);
+
+        target.setKeyStore(CertificateUtil.createKeyStore());
+        assertThrows(KeyStoreException.class,
+                () -> target.provide()
+        );
+    }
+
     @Test
     void provide_test_with_invalid_object() throws Exception {
         target = new KeyStoreTrustAnchorsProvider();
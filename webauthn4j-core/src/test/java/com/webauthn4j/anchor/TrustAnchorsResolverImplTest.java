@@ -17,9 +17,15 @@
 package com.webauthn4j.anchor;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
 import org.junit.jupiter.api.Test;
 
 import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,4 +40,34 @@ class TrustAnchorsResolverImplTest {
         Set<TrustAnchor> trustAnchorsB = target.resolve(AAGUID.ZERO);
         assertThat(trustAnchorsA).isEqualTo(trustAnchorsB);
     }
+
+    @Test
+    void snapshot_is_reused_while_provided_trustAnchors_are_unchanged_test() {
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(new SampleTrustAnchorsProvider());
+
+        assertThat(target.getSnapshot()).isSameAs(target.getSnapshot());
+    }
+
+    @Test
+    void snapshot_is_reused_for_equal_trustAnchors_test() {
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(() -> Collections.singletonMap(AAGUID.NULL, trustAnchors));
+
+        TrustAnchorsSnapshot snapshot = target.getSnapshot();
+        assertThat(target.getSnapshot().find(AAGUID.ZERO)).isSameAs(snapshot.find(AAGUID.ZERO));
+    }
+
+    @Test
+    void snapshot_is_rebuilt_when_provided_trustAnchors_are_modified_in_place_test() {
+        X509Certificate commonCertificate = TestAttestationUtil.load2tierTestRootCACertificate();
+        X509Certificate certificate = TestAttestationUtil.load3tierTestIntermediateCACertificate();
+        AAGUID aaguid = new AAGUID("49e25c43-a6d1-49f0-bcfa-23e23a7c0e52");
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = new HashMap<>();
+        trustAnchors.put(AAGUID.NULL, CertificateUtil.generateTrustAnchors(Collections.singletonList(commonCertificate)));
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(() -> trustAnchors);
+
+        assertThat(target.resolve(aaguid)).extracting(TrustAnchor::getTrustedCert).containsExactly(commonCertificate);
+        trustAnchors.put(aaguid, CertificateUtil.generateTrustAnchors(Collections.singletonList(certificate)));
+        assertThat(target.resolve(aaguid)).extracting(TrustAnchor::getTrustedCert).containsExactlyInAnyOrder(commonCertificate, certificate);
+    }
 }
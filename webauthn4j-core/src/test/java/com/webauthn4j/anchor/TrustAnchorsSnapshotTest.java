@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrustAnchorsSnapshotTest {
+
+    private final AAGUID aaguid = new AAGUID("49e25c43-a6d1-49f0-bcfa-23e23a7c0e52");
+    private final X509Certificate commonCertificate = TestAttestationUtil.load2tierTestRootCACertificate();
+    private final X509Certificate certificate = TestAttestationUtil.load3tierTestIntermediateCACertificate();
+    private final TrustAnchorsSnapshot target;
+
+    TrustAnchorsSnapshotTest() {
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = new HashMap<>();
+        trustAnchors.put(AAGUID.NULL, CertificateUtil.generateTrustAnchors(Collections.singletonList(commonCertificate)));
+        trustAnchors.put(aaguid, CertificateUtil.generateTrustAnchors(Collections.singletonList(certificate)));
+        target = new TrustAnchorsSnapshot(trustAnchors);
+    }
+
+    @Test
+    void find_test() {
+        assertThat(target.find(aaguid)).extracting(TrustAnchor::getTrustedCert).containsExactlyInAnyOrder(commonCertificate, certificate);
+        assertThat(target.find(aaguid)).isSameAs(target.find(aaguid)).isInstanceOf(IndexedTrustAnchorSet.class);
+    }
+
+    @Test
+    void find_with_unknown_aaguid_test() {
+        assertThat(target.find(AAGUID.ZERO)).extracting(TrustAnchor::getTrustedCert).containsExactly(commonCertificate);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.authenticator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySignCounterRepositoryTest {
+
+    private final byte[] credentialId = new byte[]{0x01, 0x02, 0x03};
+    private final InMemorySignCounterRepository target = new InMemorySignCounterRepository();
+
+    @Test
+    void compareAndAdvance_test() {
+        assertThat(target.compareAndAdvance(credentialId, 0, 1)).isTrue();
+        assertThat(target.compareAndAdvance(credentialId, 0, 1)).isFalse();
+        assertThat(target.compareAndAdvance(credentialId, 0, 3)).isTrue();
+        assertThat(target.compareAndAdvance(credentialId, 0, 2)).isFalse();
+        assertThat(target.getSignCounter(credentialId)).isEqualTo(3L);
+    }
+
+    @Test
+    void compareAndAdvance_with_expected_greater_than_stored_test() {
+        assertThat(target.compareAndAdvance(credentialId, 0, 1)).isTrue();
+        assertThat(target.compareAndAdvance(credentialId, 5, 4)).isFalse();
+        assertThat(target.compareAndAdvance(credentialId, 5, 6)).isTrue();
+    }
+
+    @Test
+    void compareAndAdvance_concurrently_test() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                tasks.add(() -> target.compareAndAdvance(credentialId, 10, 11));
+            }
+            int advanced = 0;
+            for (Future<Boolean> future : executorService.invokeAll(tasks)) {
+                if (future.get()) {
+                    advanced++;
+                }
+            }
+            assertThat(advanced).isEqualTo(1);
+            assertThat(target.getSignCounter(credentialId)).isEqualTo(11L);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void remove_test() {
+        target.compareAndAdvance(credentialId, 0, 1);
+        target.remove(credentialId);
+        assertThat(target.getSignCounter(credentialId)).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.authenticator;
+
+import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindSignCounterRepositoryTest {
+
+    private final byte[] credentialId1 = new byte[]{0x01};
+    private final byte[] credentialId2 = new byte[]{0x02};
+    private final byte[] credentialId3 = new byte[]{0x03};
+
+    @Test
+    void flush_test() {
+        List<Map<String, Long>> batches = new ArrayList<>();
+        WriteBehindSignCounterRepository target = new WriteBehindSignCounterRepository(new InMemorySignCounterRepository(), batches::add, 2);
+
+        assertThat(target.compareAndAdvance(credentialId1, 0, 1)).isTrue();
+        assertThat(target.compareAndAdvance(credentialId1, 0, 2)).isTrue();
+        assertThat(target.compareAndAdvance(credentialId1, 0, 2)).isFalse();
+        assertThat(target.compareAndAdvance(credentialId2, 0, 5)).isTrue();
+        assertThat(target.compareAndAdvance(credentialId3, 0, 7)).isTrue();
+        assertThat(target.getPendingCount()).isEqualTo(3);
+
+        target.flush();
+
+        assertThat(batches).hasSize(2);
+        Map<String, Long> written = new HashMap<>();
+        batches.forEach(written::putAll);
+        assertThat(written).containsEntry(Base64UrlUtil.encodeToString(credentialId1), 2L)
+                .containsEntry(Base64UrlUtil.encodeToString(credentialId2), 5L)
+                .containsEntry(Base64UrlUtil.encodeToString(credentialId3), 7L)
+                .hasSize(3);
+        assertThat(target.getPendingCount()).isZero();
+
+        target.flush();
+        assertThat(batches).hasSize(2);
+    }
+
+    @Test
+    void flush_with_failing_writer_test() {
+        List<Map<String, Long>> batches = new ArrayList<>();
+        boolean[] failing = new boolean[]{true};
+        WriteBehindSignCounterRepository target = new WriteBehindSignCounterRepository(new InMemorySignCounterRepository(), signCounters -> {
+            if (failing[0]) {
+                throw new IllegalStateException("unavailable");
+            }
+            batches.add(signCounters);
+        });
+        target.compareAndAdvance(credentialId1, 0, 1);
+
+        assertThatThrownBy(target::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(target.getPendingCount()).isEqualTo(1);
+
+        target.compareAndAdvance(credentialId1, 0, 2);
+        failing[0] = false;
+        target.flush();
+        assertThat(batches).containsExactly(Collections.singletonMap(Base64UrlUtil.encodeToString(credentialId1), 2L));
+    }
+
+    @Test
+    void constructor_with_invalid_batchSize_test() {
+        InMemorySignCounterRepository signCounterRepository = new InMemorySignCounterRepository();
+        assertThatThrownBy(() -> new WriteBehindSignCounterRepository(signCounterRepository, signCounters -> {
+        }, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.Curve;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CborItemReaderTest {
+
+    //noinspection SpellCheckingInspection
+    private static final byte[] EC2_COSE_KEY = Base64UrlUtil.decode("pQECAyYgASFYICw4xPmHIvquDRz2KUzyyQlZFhZMbi-mc_YylL1o55jPIlggGQI5ESYAOfR8QM6quTQSoyhjZET806A3yOoCUe2AWJE");
+
+    @Test
+    void skipItem_test() {
+        byte[] data = new byte[EC2_COSE_KEY.length + 1];
+        System.arraycopy(EC2_COSE_KEY, 0, data, 0, EC2_COSE_KEY.length);
+        assertThat(CborItemReader.skipItem(data, 0, data.length)).isEqualTo(EC2_COSE_KEY.length);
+    }
+
+    @Test
+    void skipItem_indefinite_length_test() {
+        // [_ {1: (_ h'00')}], 0
+        byte[] data = new byte[]{(byte) 0x9f, (byte) 0xa1, 0x01, 0x5f, 0x41, 0x00, (byte) 0xff, (byte) 0xff, 0x00};
+        assertThat(CborItemReader.skipItem(data, 0, data.length)).isEqualTo(8);
+    }
+
+    @Test
+    void skipItem_truncated_data_test() {
+        assertThrows(DataConversionException.class,
+                () -> CborItemReader.skipItem(EC2_COSE_KEY, 0, EC2_COSE_KEY.length - 1)
+        );
+    }
+
+    @Test
+    void readEC2COSEKey_test() {
+        COSEKey coseKey = CborItemReader.readEC2COSEKey(EC2_COSE_KEY, 0, EC2_COSE_KEY.length);
+        assertThat(coseKey).isInstanceOf(EC2COSEKey.class);
+        EC2COSEKey ec2COSEKey = (EC2COSEKey) coseKey;
+        assertThat(ec2COSEKey.getAlgorithm()).isEqualTo(COSEAlgorithmIdentifier.ES256);
+        assertThat(ec2COSEKey.getCurve()).isEqualTo(Curve.SECP256R1);
+        assertThat(ec2COSEKey.getX()).hasSize(32);
+        assertThat(ec2COSEKey.getY()).hasSize(32);
+        assertThat(ec2COSEKey.getPublicKey()).isNotNull();
+    }
+
+    @Test
+    void readEC2COSEKey_with_unsupported_key_type_test() {
+        // {1: 3}
+        byte[] data = new byte[]{(byte) 0xa1, 0x01, 0x03};
+        assertThat(CborItemReader.readEC2COSEKey(data, 0, data.length)).isNull();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectedClientDataReaderTest {
+
+    private final CollectedClientDataReader target = new CollectedClientDataReader();
+
+    @Test
+    void read_test() {
+        String clientDataJSON = "{\"type\":\"webauthn.get\",\"challenge\":\"AAECAw\",\"origin\":\"https://example.com\"}";
+        CollectedClientData collectedClientData = target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8));
+        assertThat(collectedClientData.getType()).isEqualTo(ClientDataType.GET);
+        assertThat(collectedClientData.getChallenge()).isEqualTo(new DefaultChallenge(new byte[]{0x00, 0x01, 0x02, 0x03}));
+        assertThat(collectedClientData.getOrigin()).isEqualTo(new Origin("https://example.com"));
+        assertThat(collectedClientData.getTokenBinding()).isNull();
+    }
+
+    @Test
+    void read_with_whitespace_and_different_member_order_test() {
+        String clientDataJSON = " { \"origin\" : \"http://localhost:8080\",\n \"challenge\": \"AAECAw\", \"type\": \"webauthn.create\" } ";
+        CollectedClientData collectedClientData = target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8));
+        assertThat(collectedClientData.getType()).isEqualTo(ClientDataType.CREATE);
+        assertThat(collectedClientData.getOrigin()).isEqualTo(new Origin("http://localhost:8080"));
+    }
+
+    @Test
+    void read_reuses_origin_instance_test() {
+        String clientDataJSON = "{\"type\":\"webauthn.get\",\"challenge\":\"AAECAw\",\"origin\":\"https://example.com\"}";
+        CollectedClientData first = target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8));
+        CollectedClientData second = target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8));
+        assertThat(second.getOrigin()).isSameAs(first.getOrigin());
+    }
+
+    @Test
+    void read_keeps_recently_used_origin_cached_test() {
+        String clientDataJSON = "{\"type\":\"webauthn.get\",\"challenge\":\"AAECAw\",\"origin\":\"https://example.com\"}";
+        Origin origin = target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8)).getOrigin();
+        for (int i = 0; i < 100; i++) {
+            String junk = "{\"type\":\"webauthn.get\",\"challenge\":\"AAECAw\",\"origin\":\"https://junk" + i + ".example.net\"}";
+            target.read(junk.getBytes(StandardCharsets.UTF_8));
+            assertThat(target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8)).getOrigin()).isSameAs(origin);
+        }
+    }
+
+    @Test
+    void read_browser_payload_with_cross_origin_test() {
+        String clientDataJSON = "{\"type\":\"webauthn.get\",\"challenge\":\"rZ8Kx2sUvqvL0XqDsJ3_1w9TYSkqvNq5u6m0x7GfA1E\",\"origin\":\"https://example.com\",\"crossOrigin\":false}";
+        CollectedClientData collectedClientData = target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8));
+        assertThat(collectedClientData.getType()).isEqualTo(ClientDataType.GET);
+        assertThat(collectedClientData.getChallenge()).isEqualTo(new DefaultChallenge("rZ8Kx2sUvqvL0XqDsJ3_1w9TYSkqvNq5u6m0x7GfA1E"));
+        assertThat(collectedClientData.getOrigin()).isEqualTo(new Origin("https://example.com"));
+    }
+
+    @Test
+    void read_with_cross_origin_true_test() {
+        String clientDataJSON = "{\"type\":\"webauthn.create\",\"crossOrigin\" : true,\"challenge\":\"AAECAw\",\"origin\":\"https://example.com\"}";
+        assertThat(target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8))).isNotNull();
+    }
+
+    @Test
+    void read_with_non_boolean_cross_origin_test() {
+        String clientDataJSON = "{\"type\":\"webauthn.get\",\"challenge\":\"AAECAw\",\"origin\":\"https://example.com\",\"crossOrigin\":\"false\"}";
+        assertThat(target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void read_with_unknown_member_test() {
+        String clientDataJSON = "{\"type\":\"webauthn.get\",\"challenge\":\"AAECAw\",\"origin\":\"https://example.com\",\"other_keys_can_be_added_here\":\"do not compare\"}";
+        assertThat(target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void read_with_escape_sequence_test() {
+        String clientDataJSON = "{\"type\":\"webauthn.get\",\"challenge\":\"AAECAw\",\"origin\":\"https:\\/\\/example.com\"}";
+        assertThat(target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void read_with_invalid_type_test() {
+        String clientDataJSON = "{\"type\":\"invalid\",\"challenge\":\"AAECAw\",\"origin\":\"https://example.com\"}";
+        assertThat(target.read(clientDataJSON.getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+}
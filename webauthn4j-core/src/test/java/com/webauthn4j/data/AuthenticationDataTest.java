@@ -61,6 +61,30 @@ class AuthenticationDataTest {
         assertThat(instance.getSignature()).isEqualTo(signature);
     }
 
+    @Test
+    void internal_accessor_does_not_copy_test() {
+        AuthenticationData instance = new AuthenticationData(
+                new byte[32],
+                new byte[32],
+                null,
+                new byte[64],
+                mock(CollectedClientData.class),
+                new byte[128],
+                null,
+                new byte[32]
+        );
+
+        assertThat(InternalAuthenticationDataAccessor.getAuthenticatorDataBytes(instance))
+                .isEqualTo(instance.getAuthenticatorDataBytes())
+                .isSameAs(InternalAuthenticationDataAccessor.getAuthenticatorDataBytes(instance));
+        assertThat(InternalAuthenticationDataAccessor.getCollectedClientDataBytes(instance))
+                .isEqualTo(instance.getCollectedClientDataBytes())
+                .isSameAs(InternalAuthenticationDataAccessor.getCollectedClientDataBytes(instance));
+        assertThat(InternalAuthenticationDataAccessor.getSignature(instance))
+                .isEqualTo(instance.getSignature())
+                .isSameAs(InternalAuthenticationDataAccessor.getSignature(instance));
+    }
+
     @Test
     void equals_hashCode_test() {
 
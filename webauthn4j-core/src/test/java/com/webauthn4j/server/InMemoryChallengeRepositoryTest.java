@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryChallengeRepositoryTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final InMemoryChallengeRepository target = new InMemoryChallengeRepository(Duration.ofMinutes(1), 4, clock);
+
+    @Test
+    void consume_test() {
+        Challenge challenge = target.issue("session");
+        assertThat(target.consume("session")).isEqualTo(challenge);
+        assertThat(target.consume("session")).isNull();
+    }
+
+    @Test
+    void consume_with_unknown_key_test() {
+        assertThat(target.consume("unknown")).isNull();
+    }
+
+    @Test
+    void save_replaces_previous_challenge_test() {
+        target.issue("session");
+        Challenge challenge = new DefaultChallenge();
+        target.save("session", challenge);
+        assertThat(target.consume("session")).isEqualTo(challenge);
+    }
+
+    @Test
+    void consume_expired_challenge_test() {
+        target.issue("session");
+        when(clock.millis()).thenReturn(Duration.ofMinutes(1).toMillis());
+        assertThat(target.consume("session")).isNull();
+    }
+
+    @Test
+    void expired_challenges_are_swept_test() {
+        target.issue("session1");
+        target.issue("session2");
+        when(clock.millis()).thenReturn(Duration.ofSeconds(30).toMillis());
+        target.issue("session3");
+        assertThat(target.size()).isEqualTo(3);
+
+        when(clock.millis()).thenReturn(Duration.ofSeconds(70).toMillis());
+        target.issue("session4");
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.consume("session3")).isNotNull();
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(10).toMillis());
+        target.expire();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void consume_concurrently_test() throws Exception {
+        target.issue("session");
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Challenge>> tasks = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                tasks.add(() -> target.consume("session"));
+            }
+            int consumed = 0;
+            for (Future<Challenge> future : executorService.invokeAll(tasks)) {
+                if (future.get() != null) {
+                    consumed++;
+                }
+            }
+            assertThat(consumed).isEqualTo(1);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void constructor_with_invalid_ttl_test() {
+        Duration ttl = Duration.ZERO;
+        assertThatThrownBy(() -> new InMemoryChallengeRepository(ttl)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.webauthn4j.server;
 
+import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
 import com.webauthn4j.test.TestDataUtil;
@@ -37,4 +38,15 @@ class ServerPropertyTest {
                 () -> assertThat(serverPropertyA).hasSameHashCodeAs(serverPropertyB)
         );
     }
+
+    @Test
+    void create_with_challengeRepository_test() {
+        ChallengeRepository challengeRepository = new InMemoryChallengeRepository();
+        Challenge challenge = challengeRepository.issue("session");
+        Origin origin = new Origin("https://example.com");
+
+        ServerProperty serverProperty = ServerProperty.create(origin, "example.com", challengeRepository, "session", null);
+        assertThat(serverProperty.getChallenge()).isEqualTo(challenge);
+        assertThat(ServerProperty.create(origin, "example.com", challengeRepository, "session", null).getChallenge()).isNull();
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.validator.exception.BadChallengeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StatelessChallengeCodecTest {
+
+    private static final byte[] KEY_0 = new byte[32];
+    private static final byte[] KEY_1 = new byte[32];
+    private static final byte[] SESSION = "session".getBytes(StandardCharsets.UTF_8);
+
+    static {
+        KEY_1[0] = 1;
+    }
+
+    private final Clock clock = mock(Clock.class);
+    private StatelessChallengeCodec target;
+
+    @BeforeEach
+    void setup() {
+        when(clock.millis()).thenReturn(1_000_000L);
+        target = new StatelessChallengeCodec(keys(KEY_0), 0, Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    void verify_test() {
+        Challenge challenge = target.issue(SESSION);
+        assertThatCode(() -> target.verify(challenge, SESSION)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void verify_without_session_binding_test() {
+        Challenge challenge = target.issue(null);
+        assertThatCode(() -> target.verify(challenge, null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void verify_with_other_session_binding_test() {
+        Challenge challenge = target.issue(SESSION);
+        byte[] otherSession = "other".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> target.verify(challenge, otherSession)).isInstanceOf(BadChallengeException.class);
+    }
+
+    @Test
+    void verify_tampered_challenge_test() {
+        byte[] value = target.issue(SESSION).getValue();
+        value[10] ^= 1;
+        Challenge tampered = new DefaultChallenge(value);
+        assertThatThrownBy(() -> target.verify(tampered, SESSION)).isInstanceOf(BadChallengeException.class);
+    }
+
+    @Test
+    void verify_random_challenge_test() {
+        Challenge challenge = new DefaultChallenge();
+        assertThatThrownBy(() -> target.verify(challenge, SESSION)).isInstanceOf(BadChallengeException.class);
+    }
+
+    @Test
+    void verify_expired_challenge_test() {
+        Challenge challenge = target.issue(SESSION);
+        when(clock.millis()).thenReturn(1_000_000L + Duration.ofMinutes(1).toMillis());
+        assertThatThrownBy(() -> target.verify(challenge, SESSION)).isInstanceOf(BadChallengeException.class);
+    }
+
+    @Test
+    void verify_challenge_issued_in_future_test() {
+        Challenge challenge = target.issue(SESSION);
+        when(clock.millis()).thenReturn(1_000_000L - Duration.ofMinutes(1).toMillis());
+        assertThatThrownBy(() -> target.verify(challenge, SESSION)).isInstanceOf(BadChallengeException.class);
+    }
+
+    @Test
+    void verify_after_key_rotation_test() {
+        Challenge oldChallenge = target.issue(SESSION);
+        Map<Integer, byte[]> keys = keys(KEY_0);
+        keys.put(1, KEY_1);
+        StatelessChallengeCodec rotated = new StatelessChallengeCodec(keys, 1, Duration.ofMinutes(1), clock);
+        Challenge newChallenge = rotated.issue(SESSION);
+
+        assertThatCode(() -> rotated.verify(oldChallenge, SESSION)).doesNotThrowAnyException();
+        assertThatCode(() -> rotated.verify(newChallenge, SESSION)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> target.verify(newChallenge, SESSION)).isInstanceOf(BadChallengeException.class);
+    }
+
+    @Test
+    void constructor_with_short_key_test() {
+        Map<Integer, byte[]> keys = keys(new byte[16]);
+        Duration ttl = Duration.ofMinutes(1);
+        assertThatThrownBy(() -> new StatelessChallengeCodec(keys, 0, ttl)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_without_current_key_test() {
+        Map<Integer, byte[]> keys = keys(KEY_0);
+        Duration ttl = Duration.ofMinutes(1);
+        assertThatThrownBy(() -> new StatelessChallengeCodec(keys, 1, ttl)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<Integer, byte[]> keys(byte[] key) {
+        Map<Integer, byte[]> keys = new HashMap<>();
+        keys.put(0, key);
+        return keys;
+    }
+}
@@ -16,18 +16,40 @@
 
 package com.webauthn4j.validator;
 
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
 import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.validator.exception.BadRpIdException;
 import com.webauthn4j.validator.exception.ConstraintViolationException;
+import com.webauthn4j.validator.exception.InconsistentClientDataTypeException;
+import com.webauthn4j.validator.exception.UserNotVerifiedException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.BIT_UP;
+import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.BIT_UV;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +64,85 @@ class AuthenticationDataValidatorTest {
         assertThatThrownBy(() -> target.validateAuthenticatorData(authenticatorData)).isInstanceOf(ConstraintViolationException.class);
     }
 
+    @Test
+    void validateAuthenticatorDataBytes_test() {
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(serverProperty, mock(Authenticator.class), true);
+        byte[] authenticatorDataBytes = createAuthenticatorDataBytes("example.com", (byte) (BIT_UP | BIT_UV));
+
+        target.validateAuthenticatorDataBytes(authenticatorDataBytes, authenticationParameters);
+    }
+
+    @Test
+    void validateAuthenticatorDataBytes_with_bad_rpIdHash_test() {
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(serverProperty, mock(Authenticator.class), false);
+        byte[] authenticatorDataBytes = createAuthenticatorDataBytes("example.net", BIT_UP);
+
+        assertThatThrownBy(() -> target.validateAuthenticatorDataBytes(authenticatorDataBytes, authenticationParameters)).isInstanceOf(BadRpIdException.class);
+    }
+
+    @Test
+    void validateAuthenticatorDataBytes_without_UV_flag_test() {
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(serverProperty, mock(Authenticator.class), true);
+        byte[] authenticatorDataBytes = createAuthenticatorDataBytes("example.com", BIT_UP);
+
+        assertThatThrownBy(() -> target.validateAuthenticatorDataBytes(authenticatorDataBytes, authenticationParameters)).isInstanceOf(UserNotVerifiedException.class);
+    }
+
+    @Test
+    void validateAuthenticatorDataBytes_records_stages_to_webAuthnMetrics_test(@Mock WebAuthnMetrics webAuthnMetrics) {
+        target.setWebAuthnMetrics(webAuthnMetrics);
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(serverProperty, mock(Authenticator.class), true);
+        byte[] authenticatorDataBytes = createAuthenticatorDataBytes("example.com", (byte) (BIT_UP | BIT_UV));
+
+        target.validateAuthenticatorDataBytes(authenticatorDataBytes, authenticationParameters);
+
+        verify(webAuthnMetrics).recordStage(eq(ValidationStage.PRECHECK), anyLong());
+        verify(webAuthnMetrics, never()).recordStage(eq(ValidationStage.RP_ID_HASH), anyLong());
+        verify(webAuthnMetrics, never()).recordStage(eq(ValidationStage.USER_FLAGS), anyLong());
+        verify(webAuthnMetrics, never()).recordFailure(any(), any());
+    }
+
+    @Test
+    void validateAuthenticatorDataBytes_records_failure_to_webAuthnMetrics_test(@Mock WebAuthnMetrics webAuthnMetrics) {
+        target.setWebAuthnMetrics(webAuthnMetrics);
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(serverProperty, mock(Authenticator.class), false);
+        byte[] authenticatorDataBytes = createAuthenticatorDataBytes("example.net", BIT_UP);
+
+        assertThatThrownBy(() -> target.validateAuthenticatorDataBytes(authenticatorDataBytes, authenticationParameters)).isInstanceOf(BadRpIdException.class);
+        verify(webAuthnMetrics).recordFailure(eq(ValidationStage.PRECHECK), any(BadRpIdException.class));
+        verify(webAuthnMetrics).recordStage(eq(ValidationStage.PRECHECK), anyLong());
+    }
+
+    @Test
+    void validate_records_each_stage_once_to_webAuthnMetrics_test(@Mock WebAuthnMetrics webAuthnMetrics) {
+        target.setWebAuthnMetrics(webAuthnMetrics);
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.CREATE, new DefaultChallenge(), new Origin("https://example.com"), null);
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = new AuthenticatorData<>(new byte[32], BIT_UP, 1);
+        AuthenticationData authenticationData = new AuthenticationData(new byte[16], null, authenticatorData, new byte[37], collectedClientData, new byte[0], null, new byte[64]);
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(serverProperty, mock(Authenticator.class), false);
+
+        assertThatThrownBy(() -> target.validate(authenticationData, authenticationParameters)).isInstanceOf(InconsistentClientDataTypeException.class);
+        verify(webAuthnMetrics).recordStage(eq(ValidationStage.INPUT), anyLong());
+        verify(webAuthnMetrics).recordStage(eq(ValidationStage.STRUCTURE), anyLong());
+        verify(webAuthnMetrics).recordFailure(eq(ValidationStage.STRUCTURE), any(InconsistentClientDataTypeException.class));
+    }
+
+    @Test
+    void setWebAuthnMetrics_with_null_test() {
+        assertThatThrownBy(() -> target.setWebAuthnMetrics(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] createAuthenticatorDataBytes(String rpId, byte flags) {
+        byte[] rpIdHash = MessageDigestUtil.createSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.allocate(37).put(rpIdHash).put(flags).putInt(1).array();
+    }
+
     @Test
     void getCustomAuthenticationValidators() {
         CustomAuthenticationValidator customAuthenticationValidator = mock(CustomAuthenticationValidator.class);
@@ -62,6 +62,23 @@ class RpIdHashValidatorTest {
         );
     }
 
+    @Test
+    void verifyRpIdHash_test_with_repeated_rpIds() {
+
+        byte[] exampleComHash = MessageDigestUtil.createSHA256().digest("example.com".getBytes(StandardCharsets.UTF_8));
+        byte[] subExampleComHash = MessageDigestUtil.createSHA256().digest("sub.example.com".getBytes(StandardCharsets.UTF_8));
+        ServerProperty exampleCom = new ServerProperty(null, "example.com", null, null);
+        ServerProperty subExampleCom = new ServerProperty(null, "sub.example.com", null, null);
+
+        //When
+        target.validate(exampleComHash, exampleCom);
+        target.validate(subExampleComHash, subExampleCom);
+        target.validate(exampleComHash, exampleCom);
+        assertThrows(BadRpIdException.class,
+                () -> target.validate(subExampleComHash, exampleCom)
+        );
+    }
+
     @Test
     void verifyRpIdHash_test_with_relyingParty_null() {
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.CertPath;
+import java.security.cert.PKIXCertPathValidatorResult;
+import java.security.cert.TrustAnchor;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CertPathValidationCacheTest {
+
+    private final AAGUID aaguid = AAGUID.ZERO;
+    private final CertPath certPath = TestAttestationUtil.load2tierTestAttestationCertificatePath().createCertPath();
+    private final Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+            Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+    private final TrustAnchor trustAnchor = trustAnchors.iterator().next();
+    private final PKIXCertPathValidatorResult result = new PKIXCertPathValidatorResult(trustAnchor, null, TestAttestationUtil.load2tierTestAuthenticatorAttestationPublicKey());
+
+    @Test
+    void get_test() {
+        CertPathValidationCache target = new CertPathValidationCache();
+        target.put(aaguid, certPath, trustAnchors, result);
+        assertThat(target.get(aaguid, certPath, new HashSet<>(trustAnchors))).isSameAs(trustAnchor);
+        assertThat(target.get(AAGUID.NULL, certPath, trustAnchors)).isNull();
+    }
+
+    @Test
+    void get_with_changed_trustAnchors_test() {
+        CertPathValidationCache target = new CertPathValidationCache();
+        target.put(aaguid, certPath, trustAnchors, result);
+        Set<TrustAnchor> reloadedTrustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+        assertThat(target.get(aaguid, certPath, reloadedTrustAnchors)).isNull();
+    }
+
+    @Test
+    void get_after_notAfter_test() {
+        Clock clock = Clock.fixed(Instant.parse("9999-12-31T00:00:00Z"), ZoneOffset.UTC);
+        CertPathValidationCache target = new CertPathValidationCache(16, clock);
+        target.put(aaguid, certPath, trustAnchors, result);
+        assertThat(target.get(aaguid, certPath, trustAnchors)).isNull();
+    }
+
+    @Test
+    void eviction_test() {
+        CertPathValidationCache target = new CertPathValidationCache(1);
+        CertPath otherCertPath = TestAttestationUtil.load3tierTestAttestationCertificatePath().createCertPath();
+        target.put(aaguid, certPath, trustAnchors, result);
+        target.put(aaguid, otherCertPath, trustAnchors, result);
+        assertThat(target.get(aaguid, certPath, trustAnchors)).isNull();
+        assertThat(target.get(aaguid, otherCertPath, trustAnchors)).isSameAs(trustAnchor);
+    }
+}
@@ -86,6 +86,29 @@ class TrustAnchorCertPathTrustworthinessValidatorTest {
         );
     }
 
+    @Test
+    void validate_full_chain_with_cached_result_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+
+        AttestationCertificatePath attestationCertificatePath
+                = new AttestationCertificatePath(Arrays.asList(
+                TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate(),
+                TestAttestationUtil.load3tierTestIntermediateCACertificate(),
+                TestAttestationUtil.load3tierTestRootCACertificate()));
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createFIDOU2FAttestationStatement(attestationCertificatePath);
+        target.validate(aaguid, attestationStatement);
+        assertThat(target.getCertPathValidationCache().get(aaguid, attestationCertificatePath.createCertPath(), trustAnchors)).isNotNull();
+
+        target.setFullChainProhibited(true);
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+    }
+
     @Test
     void test() {
         assertThat(target.isFullChainProhibited()).isFalse();
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package integration.scenario;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.exception.BadSignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchAuthenticationValidationTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    private final Origin origin = new Origin("http://example.com");
+    private final String rpId = "example.com";
+    private final ClientPlatform clientPlatform = new ClientPlatform(origin, new FIDOU2FAuthenticatorAdaptor());
+    private final WebAuthnManager target = WebAuthnManager.createNonStrictWebAuthnManager();
+
+    @Test
+    void validateAll_test() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            target.getAuthenticationDataValidator().setSignatureValidationExecutor(executorService);
+            Challenge challenge = new DefaultChallenge();
+            AttestationObject attestationObject = createAttestationObject(challenge);
+
+            AuthenticationRequest validRequest = createAuthenticationRequest(attestationObject, challenge);
+            AuthenticationRequest anotherValidRequest = createAuthenticationRequest(attestationObject, challenge);
+            AuthenticationRequest tamperedRequest = createAuthenticationRequest(attestationObject, challenge);
+            byte[] badSignature = tamperedRequest.getSignature();
+            badSignature[8] ^= 0x01;
+            AuthenticationRequest badSignatureRequest = new AuthenticationRequest(
+                    tamperedRequest.getCredentialId(),
+                    tamperedRequest.getAuthenticatorData(),
+                    tamperedRequest.getClientDataJSON(),
+                    badSignature
+            );
+            AuthenticationRequest malformedRequest = new AuthenticationRequest(
+                    validRequest.getCredentialId(),
+                    validRequest.getAuthenticatorData(),
+                    "{".getBytes(StandardCharsets.UTF_8),
+                    validRequest.getSignature()
+            );
+
+            List<AuthenticationResult> results = target.validateAll(
+                    Arrays.asList(validRequest, badSignatureRequest, malformedRequest, anotherValidRequest),
+                    Arrays.asList(
+                            createAuthenticationParameters(attestationObject, challenge),
+                            createAuthenticationParameters(attestationObject, challenge),
+                            createAuthenticationParameters(attestationObject, challenge),
+                            createAuthenticationParameters(attestationObject, challenge)
+                    )
+            );
+
+            assertThat(results).hasSize(4);
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(0).getAuthenticationData()).isNotNull();
+            assertThat(results.get(1).getException()).isInstanceOf(BadSignatureException.class);
+            assertThat(results.get(2).getException()).isInstanceOf(DataConversionException.class);
+            assertThat(results.get(2).getAuthenticationData()).isNull();
+            assertThat(results.get(3).isSuccess()).isTrue();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void validateAll_with_unmatched_sizes_test() {
+        List<AuthenticationRequest> authenticationRequests = Collections.emptyList();
+        List<AuthenticationParameters> authenticationParametersList = Collections.singletonList(null);
+        assertThatThrownBy(() -> target.validateAll(authenticationRequests, authenticationParametersList)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AuthenticationRequest createAuthenticationRequest(AttestationObject attestationObject, Challenge challenge) {
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                Collections.singletonList(
+                        new PublicKeyCredentialDescriptor(
+                                PublicKeyCredentialType.PUBLIC_KEY,
+                                attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId(),
+                                Collections.singleton(AuthenticatorTransport.USB)
+                        )
+                ),
+                UserVerificationRequirement.DISCOURAGED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticatorAssertionResponse = credential.getAuthenticatorResponse();
+        return new AuthenticationRequest(
+                credential.getRawId(),
+                authenticatorAssertionResponse.getAuthenticatorData(),
+                authenticatorAssertionResponse.getClientDataJSON(),
+                authenticatorAssertionResponse.getSignature()
+        );
+    }
+
+    private AuthenticationParameters createAuthenticationParameters(AttestationObject attestationObject, Challenge challenge) {
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        Authenticator authenticator = TestDataUtil.createAuthenticator(attestationObject);
+        return new AuthenticationParameters(serverProperty, authenticator, false, true, Collections.emptyList());
+    }
+
+    private AttestationObject createAttestationObject(Challenge challenge) {
+        PublicKeyCredentialParameters publicKeyCredentialParameters
+                = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(),
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters)
+        );
+        AuthenticatorAttestationResponse registrationRequest = clientPlatform.create(credentialCreationOptions).getAuthenticatorResponse();
+        AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+        return attestationObjectConverter.convert(registrationRequest.getAttestationObject());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Metadata aggregated from the maps provided by a list of delegates, to be reused as long as every delegate provides
+ * the same map instance
+ *
+ * @param <V> type of the metadata
+ */
+class AggregatedMetadata<V> {
+
+    private final List<Map<AAGUID, Set<V>>> sources;
+    private final Map<AAGUID, Set<V>> result;
+
+    AggregatedMetadata(List<Map<AAGUID, Set<V>>> sources) {
+        this.sources = sources;
+        this.result = Collections.unmodifiableMap(sources.stream()
+                .flatMap(source -> source.entrySet().stream())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    /**
+     * Returns true if the metadata is aggregated from exactly the same map instances
+     *
+     * @param sources maps provided by the delegates
+     * @return true if the metadata is aggregated from the sources
+     */
+    boolean isAggregatedFrom(List<Map<AAGUID, Set<V>>> sources) {
+        if (this.sources.size() != sources.size()) {
+            return false;
+        }
+        for (int i = 0; i < sources.size(); i++) {
+            if (this.sources.get(i) != sources.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Map<AAGUID, Set<V>> getResult() {
+        return result;
+    }
+}
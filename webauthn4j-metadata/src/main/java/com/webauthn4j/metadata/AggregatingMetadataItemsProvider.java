@@ -21,11 +21,11 @@ import com.webauthn4j.metadata.data.MetadataItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class AggregatingMetadataItemsProvider implements MetadataItemsProvider {
 
@@ -33,23 +33,34 @@ public class AggregatingMetadataItemsProvider implements MetadataItemsProvider {
 
     private final List<MetadataItemsProvider> metadataItemsProviders;
 
+    private volatile AggregatedMetadata<MetadataItem> aggregatedMetadata;
+
     public AggregatingMetadataItemsProvider(List<MetadataItemsProvider> metadataItemsProviders) {
         this.metadataItemsProviders = metadataItemsProviders;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is reused as long as every delegate provides the same map instance as on the previous call.
+     */
     @SuppressWarnings("Duplicates")
     @Override
     public Map<AAGUID, Set<MetadataItem>> provide() {
-        return metadataItemsProviders.stream()
-                .flatMap(provider -> {
-                    try {
-                        return provider.provide().entrySet().stream();
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to load metadata from one of metadataItemsProviders", e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        List<Map<AAGUID, Set<MetadataItem>>> sources = new ArrayList<>(metadataItemsProviders.size());
+        for (MetadataItemsProvider provider : metadataItemsProviders) {
+            try {
+                sources.add(provider.provide());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to load metadata from one of metadataItemsProviders", e);
+                sources.add(Collections.emptyMap());
+            }
+        }
+        AggregatedMetadata<MetadataItem> aggregated = aggregatedMetadata;
+        if (aggregated == null || !aggregated.isAggregatedFrom(sources)) {
+            aggregated = new AggregatedMetadata<>(sources);
+            aggregatedMetadata = aggregated;
+        }
+        return aggregated.getResult();
     }
 }
@@ -21,11 +21,11 @@ import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class AggregatingMetadataStatementsProvider implements MetadataStatementsProvider {
 
@@ -33,23 +33,34 @@ public class AggregatingMetadataStatementsProvider implements MetadataStatements
 
     private final List<MetadataStatementsProvider> metadataStatementsProviders;
 
+    private volatile AggregatedMetadata<MetadataStatement> aggregatedMetadata;
+
     public AggregatingMetadataStatementsProvider(List<MetadataStatementsProvider> metadataStatementsProviders) {
         this.metadataStatementsProviders = metadataStatementsProviders;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is reused as long as every delegate provides the same map instance as on the previous call.
+     */
     @SuppressWarnings("Duplicates")
     @Override
     public Map<AAGUID, Set<MetadataStatement>> provide() {
-        return metadataStatementsProviders.stream()
-                .flatMap(provider -> {
-                    try {
-                        return provider.provide().entrySet().stream();
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to load metadata from one of metadataStatementsProviders", e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        List<Map<AAGUID, Set<MetadataStatement>>> sources = new ArrayList<>(metadataStatementsProviders.size());
+        for (MetadataStatementsProvider provider : metadataStatementsProviders) {
+            try {
+                sources.add(provider.provide());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to load metadata from one of metadataStatementsProviders", e);
+                sources.add(Collections.emptyMap());
+            }
+        }
+        AggregatedMetadata<MetadataStatement> aggregated = aggregatedMetadata;
+        if (aggregated == null || !aggregated.isAggregatedFrom(sources)) {
+            aggregated = new AggregatedMetadata<>(sources);
+            aggregatedMetadata = aggregated;
+        }
+        return aggregated.getResult();
     }
 }
@@ -28,6 +28,7 @@ import com.webauthn4j.metadata.data.toc.MetadataTOCPayload;
 import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
 import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.metadata.validator.MetadataStatementValidator;
+import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.MessageDigestUtil;
@@ -44,17 +45,45 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
 
     private static final String DEFAULT_FIDO_METADATA_SERVICE_ENDPOINT = "https://mds2.fidoalliance.org/";
-    Map<AAGUID, Set<MetadataItem>> cachedMetadataItemMap;
-    OffsetDateTime nextUpdate;
-    OffsetDateTime lastRefresh;
+    private static final int DEFAULT_MAX_CONCURRENT_FETCHES = 8;
+    private static final Duration DEFAULT_FETCH_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration DEFAULT_MAX_SNAPSHOT_AGE = Duration.ofDays(7);
+    private static final Executor DEFAULT_REFRESH_EXECUTOR = command -> {
+        Thread thread = new Thread(command, "webauthn4j-mds-refresh");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    volatile Map<AAGUID, Set<MetadataItem>> cachedMetadataItemMap;
+    volatile OffsetDateTime nextUpdate;
+    volatile OffsetDateTime lastRefresh;
+    private volatile OffsetDateTime lastRefreshFailure;
+    private volatile Throwable lastRefreshFailureCause;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicBoolean backgroundRefreshInFlight = new AtomicBoolean(false);
+    private volatile boolean loadedFromSnapshot = false;
+    // verified metadata statements keyed by their hash in the TOC, reused while the TOC lists the same hash
+    private volatile Map<String, VerifiedMetadataStatement> verifiedMetadataStatements = Collections.emptyMap();
+    private volatile HttpResponse lastTOCResponse;
+    private Executor refreshExecutor = DEFAULT_REFRESH_EXECUTOR;
+    private Executor fetchExecutor = DefaultFetchExecutorHolder.INSTANCE;
+    private int maxConcurrentFetches = DEFAULT_MAX_CONCURRENT_FETCHES;
+    private Duration fetchTimeout = DEFAULT_FETCH_TIMEOUT;
+    private FidoMdsSnapshotStore snapshotStore;
+    private Duration maxSnapshotAge = DEFAULT_MAX_SNAPSHOT_AGE;
     private final Logger logger = LoggerFactory.getLogger(FidoMdsMetadataItemsProvider.class);
     private final JsonConverter jsonConverter;
     private final JWSFactory jwsFactory;
@@ -81,7 +110,7 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
     }
 
     public FidoMdsMetadataItemsProvider(ObjectConverter objectConverter, String token) {
-        this(objectConverter, token, new SimpleHttpClient(), loadEmbeddedFidoMdsRootCertificate());
+        this(objectConverter, token, new UrlConnectionHttpClient(), loadEmbeddedFidoMdsRootCertificate());
     }
 
     public FidoMdsMetadataItemsProvider(ObjectConverter objectConverter, HttpClient httpClient, X509Certificate rootCertificate) {
@@ -138,12 +167,202 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         }
     }
 
+    /**
+     * Returns the cached metadata items. Only the very first call blocks on fetching FIDO MDS, unless a
+     * {@link FidoMdsSnapshotStore} holds a previous snapshot to start from. Once the cache is
+     * populated, an expired cache triggers a single background refresh and the stale items are served until the
+     * refreshed ones are swapped in.
+     */
     @Override
     public Map<AAGUID, Set<MetadataItem>> provide() {
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = cachedMetadataItemMap;
+        if (metadataItemMap == null) {
+            refreshLock.lock();
+            try {
+                if (cachedMetadataItemMap == null && !loadSnapshot()) {
+                    refresh();
+                }
+                return cachedMetadataItemMap;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
         if (needsRefresh()) {
-            refresh();
+            refreshInBackground();
+        }
+        return metadataItemMap;
+    }
+
+    /**
+     * Fetches FIDO MDS on the caller's thread and swaps in the result. Concurrent calls are serialized, and a
+     * failure leaves the previously cached items in place.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            doRefresh();
+        } catch (RuntimeException e) {
+            lastRefreshFailure = OffsetDateTime.now(ZoneOffset.UTC);
+            lastRefreshFailureCause = e;
+            throw e;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Refreshes on the refresh executor unless a refresh is already in flight or the cache is still fresh.
+     */
+    public void refreshInBackground() {
+        if (!backgroundRefreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    if (needsRefresh()) {
+                        refresh();
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to refresh FIDO MDS metadata. Stale metadata is kept.", e);
+                } finally {
+                    backgroundRefreshInFlight.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            backgroundRefreshInFlight.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Periodically checks on the given scheduler whether the cache expired and refreshes it if so, so that
+     * requests never have to trigger the refresh themselves.
+     *
+     * @param scheduler scheduler to run the check on
+     * @param period    interval between checks
+     * @return future to cancel the scheduled check
+     */
+    public ScheduledFuture<?> scheduleRefresh(ScheduledExecutorService scheduler, Duration period) {
+        AssertUtil.notNull(scheduler, "scheduler must not be null");
+        AssertUtil.notNull(period, "period must not be null");
+        return scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                if (needsRefresh()) {
+                    refresh();
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to refresh FIDO MDS metadata. Stale metadata is kept.", e);
+            }
+        }, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public FidoMdsSnapshotStore getSnapshotStore() {
+        return snapshotStore;
+    }
+
+    /**
+     * Sets the store that keeps the last verified TOC and metadata statements across restarts.
+     * The stored snapshot is served at start up and revalidated against FIDO MDS in the background.
+     * A snapshot whose TOC nextUpdate passed more than {@link #setMaxSnapshotAge(Duration) maxSnapshotAge} ago is
+     * not served, and FIDO MDS is fetched on the caller's thread instead.
+     *
+     * @param snapshotStore snapshot store, or null to disable snapshots
+     */
+    public void setSnapshotStore(FidoMdsSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    public Duration getMaxSnapshotAge() {
+        return maxSnapshotAge;
+    }
+
+    /**
+     * @param maxSnapshotAge how long after the nextUpdate of its TOC a snapshot may still be served at start up.
+     *                       Defaults to 7 days
+     */
+    public void setMaxSnapshotAge(Duration maxSnapshotAge) {
+        AssertUtil.notNull(maxSnapshotAge, "maxSnapshotAge must not be null");
+        if (maxSnapshotAge.isNegative()) {
+            throw new IllegalArgumentException("maxSnapshotAge must not be negative");
         }
-        return cachedMetadataItemMap;
+        this.maxSnapshotAge = maxSnapshotAge;
+    }
+
+    public Executor getFetchExecutor() {
+        return fetchExecutor;
+    }
+
+    /**
+     * Sets the executor metadata statements are fetched on. Defaults to a virtual thread per fetch where the runtime
+     * supports it, and to a dedicated pool of daemon threads otherwise, so that the blocking fetches never occupy the
+     * common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param fetchExecutor executor to fetch metadata statements on
+     */
+    public void setFetchExecutor(Executor fetchExecutor) {
+        AssertUtil.notNull(fetchExecutor, "fetchExecutor must not be null");
+        this.fetchExecutor = fetchExecutor;
+    }
+
+    public int getMaxConcurrentFetches() {
+        return maxConcurrentFetches;
+    }
+
+    /**
+     * @param maxConcurrentFetches maximum number of metadata statements fetched at the same time
+     */
+    public void setMaxConcurrentFetches(int maxConcurrentFetches) {
+        if (maxConcurrentFetches < 1) {
+            throw new IllegalArgumentException("maxConcurrentFetches must be positive");
+        }
+        this.maxConcurrentFetches = maxConcurrentFetches;
+    }
+
+    public Duration getFetchTimeout() {
+        return fetchTimeout;
+    }
+
+    /**
+     * @param fetchTimeout time to wait for all metadata statements of a refresh. If some are not fetched by then,
+     *                     the previously cached items are kept and the refresh is retried later
+     */
+    public void setFetchTimeout(Duration fetchTimeout) {
+        AssertUtil.notNull(fetchTimeout, "fetchTimeout must not be null");
+        if (fetchTimeout.isNegative() || fetchTimeout.isZero()) {
+            throw new IllegalArgumentException("fetchTimeout must be positive");
+        }
+        this.fetchTimeout = fetchTimeout;
+    }
+
+    public Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    public void setRefreshExecutor(Executor refreshExecutor) {
+        AssertUtil.notNull(refreshExecutor, "refreshExecutor must not be null");
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * @return time of the last successful refresh, or null if no refresh has succeeded yet
+     */
+    public OffsetDateTime getLastRefresh() {
+        return lastRefresh;
+    }
+
+    /**
+     * @return time of the last failed refresh, or null if no refresh has failed yet
+     */
+    public OffsetDateTime getLastRefreshFailure() {
+        return lastRefreshFailure;
+    }
+
+    /**
+     * @return cause of the last failed refresh, or null if no refresh has failed yet
+     */
+    public Throwable getLastRefreshFailureCause() {
+        return lastRefreshFailureCause;
     }
 
     public String getFidoMetadataServiceEndpoint() {
@@ -154,32 +373,211 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         this.fidoMetadataServiceEndpoint = fidoMetadataServiceEndpoint;
     }
 
-    private void refresh() {
-        MetadataTOCPayload tocPayload = fetchMetadataTOCPayload(false);
-
-        cachedMetadataItemMap =
-                tocPayload.getEntries().parallelStream().map(entry -> {
+    private void doRefresh() {
+        String toc = fetchMetadataTOC();
+        MetadataTOCPayload tocPayload = parseMetadataTOC(toc, false);
+        Map<String, VerifiedMetadataStatement> previousMetadataStatements = verifiedMetadataStatements;
+        Map<String, VerifiedMetadataStatement> metadataStatements = new ConcurrentHashMap<>();
+
+        List<Future<MetadataItem>> futures = new ArrayList<>(tocPayload.getEntries().size());
+        Semaphore permits = new Semaphore(maxConcurrentFetches);
+        long deadline = System.nanoTime() + fetchTimeout.toNanos();
+        int skipped = 0;
+        for (MetadataTOCPayloadEntry entry : tocPayload.getEntries()) {
+            VerifiedMetadataStatement previousMetadataStatement = previousMetadataStatements.get(entry.getHash());
+            if (previousMetadataStatement != null) {
+                metadataStatements.put(entry.getHash(), previousMetadataStatement);
+                futures.add(CompletableFuture.completedFuture(createFidoMdsMetadataItem(entry, previousMetadataStatement.getMetadataStatement())));
+                continue;
+            }
+            if (!tryAcquire(permits, deadline)) {
+                logger.warn("Timed out waiting for a free slot to fetch MetadataStatement from {}", entry.getUrl());
+                skipped++;
+                continue;
+            }
+            CompletableFuture<MetadataItem> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> {
+                    // released by the task itself, so that a fetch still running after the deadline keeps its permit
                     try {
-                        return fetchFidoMdsMetadataItem(entry);
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to fetch MetadataTOCPayLoad", e);
-                        return null;
+                        String metadataStatementBase64url = fetchMetadataStatementBase64url(entry.getUrl().toString());
+                        VerifiedMetadataStatement metadataStatement = new VerifiedMetadataStatement(metadataStatementBase64url,
+                                parseMetadataStatement(metadataStatementBase64url, Base64UrlUtil.decode(entry.getHash())));
+                        metadataStatements.put(entry.getHash(), metadataStatement);
+                        return createFidoMdsMetadataItem(entry, metadataStatement.getMetadataStatement());
+                    } finally {
+                        permits.release();
                     }
-                })
-                        .filter(Objects::nonNull)
+                }, fetchExecutor);
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                logger.warn("Failed to fetch MetadataTOCPayLoad", e);
+                skipped++;
+                continue;
+            }
+            futures.add(future);
+        }
+
+        List<MetadataItem> metadataItems = new ArrayList<>(futures.size());
+        for (Future<MetadataItem> future : futures) {
+            try {
+                MetadataItem metadataItem = awaitMetadataItem(future, deadline);
+                if (metadataItem != null) {
+                    metadataItems.add(metadataItem);
+                }
+            } catch (TimeoutException e) {
+                // the fetch is left to finish on its own, as cancelling a CompletableFuture doesn't interrupt it
+                logger.warn("Timed out fetching MetadataTOCPayLoad", e);
+                skipped++;
+            }
+        }
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap =
+                metadataItems.stream()
                         .distinct()
                         .collect(Collectors.groupingBy(MetadataItem::getAaguid))
                         .entrySet()
                         .stream()
                         .collect(Collectors.toMap(Map.Entry::getKey, entry -> Collections.unmodifiableSet(new HashSet<>(entry.getValue()))));
 
+        if (skipped > 0) {
+            publishIncompleteRefresh(metadataItemMap, previousMetadataStatements, metadataStatements,
+                    String.format("%d of %d metadata statements were not fetched within %s", skipped, tocPayload.getEntries().size(), fetchTimeout));
+            return;
+        }
+
         nextUpdate = tocPayload.getNextUpdate().atStartOfDay().atOffset(ZoneOffset.UTC);
         lastRefresh = OffsetDateTime.now(ZoneOffset.UTC);
+        loadedFromSnapshot = false;
+        verifiedMetadataStatements = metadataStatements;
+        // published last so that readers observing the new map also observe nextUpdate and lastRefresh
+        cachedMetadataItemMap = Collections.unmodifiableMap(metadataItemMap);
+
+        saveSnapshot(toc, metadataStatements);
+    }
+
+    /**
+     * Handles a refresh in which some metadata statements were not fetched in time. Such a refresh would drop the
+     * authenticators of those statements until the next update of the TOC, so it doesn't replace the cached items
+     * and isn't saved as a snapshot. Only when nothing is cached yet are the fetched items served, and they are
+     * expired right away so that the refresh is retried once the hourly throttle allows. The statements fetched so
+     * far are kept to be reused by the retry.
+     */
+    private void publishIncompleteRefresh(Map<AAGUID, Set<MetadataItem>> metadataItemMap,
+                                          Map<String, VerifiedMetadataStatement> previousMetadataStatements,
+                                          Map<String, VerifiedMetadataStatement> metadataStatements,
+                                          String message) {
+        Map<String, VerifiedMetadataStatement> mergedMetadataStatements = new ConcurrentHashMap<>(previousMetadataStatements);
+        mergedMetadataStatements.putAll(metadataStatements);
+        verifiedMetadataStatements = mergedMetadataStatements;
+        if (cachedMetadataItemMap != null) {
+            throw new MDSException(message + ". Previously fetched metadata is kept.");
+        }
+        logger.warn("{}. Serving the fetched metadata until the refresh is retried.", message);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        nextUpdate = now;
+        lastRefresh = now;
+        loadedFromSnapshot = false;
+        cachedMetadataItemMap = Collections.unmodifiableMap(metadataItemMap);
+    }
+
+    private boolean tryAcquire(Semaphore permits, long deadline) {
+        try {
+            return permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MDSException("Interrupted while fetching metadata statements", e);
+        }
+    }
+
+    private MetadataItem awaitMetadataItem(Future<MetadataItem> future, long deadline) throws TimeoutException {
+        try {
+            return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            logger.warn("Failed to fetch MetadataTOCPayLoad", e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MDSException("Interrupted while fetching metadata statements", e);
+        }
+    }
+
+    /**
+     * Loads the cached metadata items from the snapshot store and schedules their revalidation.
+     *
+     * @return true if a snapshot is loaded
+     */
+    private boolean loadSnapshot() {
+        FidoMdsSnapshotStore store = snapshotStore;
+        if (store == null) {
+            return false;
+        }
+        try {
+            String toc = store.loadTOC();
+            if (toc == null) {
+                return false;
+            }
+            // the snapshot is chained to the FIDO MDS root like a fetched TOC, as its directory may be writable by
+            // others. Only revocation is left to the background revalidation, as fetching CRLs would defeat a fast
+            // start up
+            MetadataTOCPayload tocPayload = parseMetadataTOC(toc, false, false);
+            OffsetDateTime snapshotNextUpdate = tocPayload.getNextUpdate().atStartOfDay().atOffset(ZoneOffset.UTC);
+            if (snapshotNextUpdate.plus(maxSnapshotAge).isBefore(OffsetDateTime.now(ZoneOffset.UTC))) {
+                logger.warn("FIDO MDS snapshot expired on {}, which is longer ago than {}. Fetching metadata from FIDO MDS.", snapshotNextUpdate, maxSnapshotAge);
+                return false;
+            }
+            Map<String, VerifiedMetadataStatement> metadataStatements = new ConcurrentHashMap<>();
+            Map<AAGUID, Set<MetadataItem>> metadataItemMap = new HashMap<>();
+            for (MetadataTOCPayloadEntry entry : tocPayload.getEntries()) {
+                String metadataStatementBase64url = store.loadMetadataStatement(entry.getHash());
+                if (metadataStatementBase64url == null) {
+                    continue;
+                }
+                VerifiedMetadataStatement metadataStatement = new VerifiedMetadataStatement(metadataStatementBase64url,
+                        parseMetadataStatement(metadataStatementBase64url, Base64UrlUtil.decode(entry.getHash())));
+                metadataStatements.put(entry.getHash(), metadataStatement);
+                MetadataItem metadataItem = createFidoMdsMetadataItem(entry, metadataStatement.getMetadataStatement());
+                metadataItemMap.computeIfAbsent(metadataItem.getAaguid(), key -> new HashSet<>()).add(metadataItem);
+            }
+            metadataItemMap.replaceAll((key, value) -> Collections.unmodifiableSet(value));
+
+            nextUpdate = snapshotNextUpdate;
+            loadedFromSnapshot = true;
+            verifiedMetadataStatements = metadataStatements;
+            cachedMetadataItemMap = Collections.unmodifiableMap(metadataItemMap);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load FIDO MDS snapshot. Fetching metadata from FIDO MDS.", e);
+            return false;
+        }
+        refreshInBackground();
+        return true;
+    }
+
+    private void saveSnapshot(String toc, Map<String, VerifiedMetadataStatement> metadataStatements) {
+        FidoMdsSnapshotStore store = snapshotStore;
+        if (store == null) {
+            return;
+        }
+        try {
+            Map<String, String> metadataStatementBase64urls = new HashMap<>();
+            metadataStatements.forEach((hash, metadataStatement) -> metadataStatementBase64urls.put(hash, metadataStatement.getBase64url()));
+            store.save(toc, metadataStatementBase64urls);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to save FIDO MDS snapshot", e);
+        }
     }
 
     boolean needsRefresh() {
         OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
-        return cachedMetadataItemMap == null || (nextUpdate.isBefore(now) && lastRefresh.isBefore(now.minusHours(1)));
+        if (cachedMetadataItemMap == null) {
+            return true;
+        }
+        OffsetDateTime hourAgo = now.minusHours(1);
+        // failed attempts are throttled the same way as successful ones, so that an unavailable MDS is not hammered
+        OffsetDateTime failure = lastRefreshFailure;
+        if (loadedFromSnapshot) {
+            return failure == null || failure.isBefore(hourAgo);
+        }
+        return nextUpdate.isBefore(now) && lastRefresh.isBefore(hourAgo) && (failure == null || failure.isBefore(hourAgo));
     }
 
     /**
@@ -190,21 +588,41 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
      */
     MetadataTOCPayload fetchMetadataTOCPayload(boolean skipCertPathValidation) {
         String uriWithToken = appendToken(fidoMetadataServiceEndpoint, token);
+        return parseMetadataTOC(httpClient.fetch(uriWithToken), skipCertPathValidation);
+    }
 
-        String toc = httpClient.fetch(uriWithToken);
+    /**
+     * fetch MetaDataTOC conditionally on the previously fetched one
+     *
+     * @return MetaDataTOC JWS
+     */
+    String fetchMetadataTOC() {
+        String uriWithToken = appendToken(fidoMetadataServiceEndpoint, token);
+        HttpResponse previous = lastTOCResponse;
+        HttpResponse response = httpClient.fetch(uriWithToken, previous);
+        if (response == previous) {
+            logger.debug("FIDO MDS TOC is not modified");
+        }
+        lastTOCResponse = response;
+        return response.getBody();
+    }
+
+    MetadataTOCPayload parseMetadataTOC(String toc, boolean skipCertPathValidation) {
+        return parseMetadataTOC(toc, skipCertPathValidation, true);
+    }
 
+    MetadataTOCPayload parseMetadataTOC(String toc, boolean skipCertPathValidation, boolean checkRevocation) {
         JWS<MetadataTOCPayload> jws = jwsFactory.parse(toc, MetadataTOCPayload.class);
         if (!jws.isValidSignature()) {
             throw new MDSException("invalid signature");
         }
         if (!skipCertPathValidation) {
-            validateCertPath(jws);
+            validateCertPath(jws, checkRevocation);
         }
         return jws.getPayload();
     }
 
-    private MetadataItem fetchFidoMdsMetadataItem(MetadataTOCPayloadEntry entry) {
-        MetadataStatement metadataStatement = fetchMetadataStatement(entry.getUrl().toString(), Base64UrlUtil.decode(entry.getHash()));
+    private MetadataItem createFidoMdsMetadataItem(MetadataTOCPayloadEntry entry, MetadataStatement metadataStatement) {
         return new MetadataItemImpl(
                 entry.getAaid(),
                 new AAGUID(entry.getAaguid()),
@@ -216,15 +634,19 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         );
     }
 
-    private void validateCertPath(JWS<MetadataTOCPayload> jws) {
+    private void validateCertPath(JWS<MetadataTOCPayload> jws, boolean checkRevocation) {
         Set<TrustAnchor> trustAnchors = Collections.singleton(trustAnchor);
         CertPath certPath = jws.getHeader().getX5c().createCertPath();
 
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
         PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
-        PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
-        pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS));
-        certPathParameters.addCertPathChecker(pkixRevocationChecker);
+        if (checkRevocation) {
+            PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
+            pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS));
+            certPathParameters.addCertPathChecker(pkixRevocationChecker);
+        } else {
+            certPathParameters.setRevocationEnabled(false);
+        }
 
         try {
             certPathValidator.validate(certPath, certPathParameters);
@@ -236,8 +658,15 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
     }
 
     MetadataStatement fetchMetadataStatement(String uri, byte[] expectedHash) {
+        return parseMetadataStatement(fetchMetadataStatementBase64url(uri), expectedHash);
+    }
+
+    String fetchMetadataStatementBase64url(String uri) {
         String uriWithToken = appendToken(uri, token);
-        String metadataStatementBase64url = httpClient.fetch(uriWithToken);
+        return httpClient.fetch(uriWithToken);
+    }
+
+    private MetadataStatement parseMetadataStatement(String metadataStatementBase64url, byte[] expectedHash) {
         String metadataStatementStr = new String(Base64UrlUtil.decode(metadataStatementBase64url));
         byte[] hash = MessageDigestUtil.createSHA256().digest(metadataStatementBase64url.getBytes(StandardCharsets.UTF_8));
         if (!Arrays.equals(hash, expectedHash)) {
@@ -248,4 +677,45 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         return metadataStatement;
     }
 
+    private static class VerifiedMetadataStatement {
+
+        private final String base64url;
+        private final MetadataStatement metadataStatement;
+
+        VerifiedMetadataStatement(String base64url, MetadataStatement metadataStatement) {
+            this.base64url = base64url;
+            this.metadataStatement = metadataStatement;
+        }
+
+        String getBase64url() {
+            return base64url;
+        }
+
+        MetadataStatement getMetadataStatement() {
+            return metadataStatement;
+        }
+    }
+
+    private static class DefaultFetchExecutorHolder {
+
+        private static final Executor INSTANCE = createDefaultFetchExecutor();
+
+        private DefaultFetchExecutorHolder() {
+        }
+
+        private static Executor createDefaultFetchExecutor() {
+            try {
+                // Executors.newVirtualThreadPerTaskExecutor() is only available on Java 21 or later
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                AtomicInteger threadNumber = new AtomicInteger();
+                return Executors.newCachedThreadPool(command -> {
+                    Thread thread = new Thread(command, "webauthn4j-mds-fetch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+
 }
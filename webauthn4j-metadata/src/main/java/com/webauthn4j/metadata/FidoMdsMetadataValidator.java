@@ -18,6 +18,7 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.statement.AttestationCertificatePath;
 import com.webauthn4j.data.attestation.statement.AttestationStatement;
 import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
 import com.webauthn4j.metadata.data.MetadataItem;
@@ -27,6 +28,7 @@ import com.webauthn4j.validator.CustomRegistrationValidator;
 import com.webauthn4j.validator.RegistrationObject;
 import com.webauthn4j.validator.exception.BadAttestationStatementException;
 
+import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -55,7 +57,14 @@ public class FidoMdsMetadataValidator implements CustomRegistrationValidator {
         AAGUID aaguid = registrationObject.getAttestationObject().getAuthenticatorData().getAttestedCredentialData().getAaguid();
         AttestationStatement attestationStatement = registrationObject.getAttestationObject().getAttestationStatement();
 
-        Set<MetadataItem> metadataItems = metadataItemsResolver.resolve(aaguid);
+        X509Certificate attestationCertificate = null;
+        if (attestationStatement instanceof CertificateBaseAttestationStatement) {
+            AttestationCertificatePath x5c = ((CertificateBaseAttestationStatement) attestationStatement).getX5c();
+            if (x5c != null && !x5c.isEmpty()) {
+                attestationCertificate = x5c.get(0);
+            }
+        }
+        Set<MetadataItem> metadataItems = metadataItemsResolver.resolve(aaguid, attestationCertificate);
 
         List<AttestationType> attestationTypes = metadataItems.stream()
                 .flatMap(item -> item.getMetadataStatement().getAttestationTypes().stream()).collect(Collectors.toList());
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import java.util.Map;
+
+/**
+ * Store of the last verified FIDO MDS TOC and metadata statements, used by {@link FidoMdsMetadataItemsProvider}
+ * to start up without fetching FIDO MDS.
+ */
+public interface FidoMdsSnapshotStore {
+
+    /**
+     * @return the TOC JWS, or null if no snapshot is stored
+     */
+    String loadTOC();
+
+    /**
+     * @param hash base64url encoded hash of the metadata statement, as listed in the TOC
+     * @return the base64url encoded metadata statement, or null if it is not stored
+     */
+    String loadMetadataStatement(String hash);
+
+    /**
+     * Replaces the stored snapshot
+     *
+     * @param toc                 the TOC JWS
+     * @param metadataStatements  base64url encoded metadata statements keyed by their hash
+     */
+    void save(String toc, Map<String, String> metadataStatements);
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@link FidoMdsSnapshotStore} that keeps the snapshot as plain files in a directory.
+ * The TOC is stored as {@code toc.jwt} and each metadata statement as {@code statements/<hash>}.
+ * Files are replaced atomically, so a crash while saving leaves a loadable snapshot behind.
+ */
+public class FileFidoMdsSnapshotStore implements FidoMdsSnapshotStore {
+
+    private static final String TOC_FILE_NAME = "toc.jwt";
+    private static final String STATEMENTS_DIRECTORY_NAME = "statements";
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Path directory;
+
+    public FileFidoMdsSnapshotStore(Path directory) {
+        AssertUtil.notNull(directory, "directory must not be null");
+        this.directory = directory;
+    }
+
+    @Override
+    public String loadTOC() {
+        return read(directory.resolve(TOC_FILE_NAME));
+    }
+
+    @Override
+    public String loadMetadataStatement(String hash) {
+        AssertUtil.notNull(hash, "hash must not be null");
+        return read(resolveStatement(hash));
+    }
+
+    @Override
+    public synchronized void save(String toc, Map<String, String> metadataStatements) {
+        AssertUtil.notNull(toc, "toc must not be null");
+        AssertUtil.notNull(metadataStatements, "metadataStatements must not be null");
+        try {
+            Path statementsDirectory = directory.resolve(STATEMENTS_DIRECTORY_NAME);
+            Files.createDirectories(statementsDirectory);
+            Set<Path> statementFiles = new HashSet<>();
+            for (Map.Entry<String, String> entry : metadataStatements.entrySet()) {
+                Path statementFile = resolveStatement(entry.getKey());
+                statementFiles.add(statementFile);
+                // statements are content addressed, so an existing file already holds the same statement
+                if (!Files.exists(statementFile)) {
+                    write(statementFile, entry.getValue());
+                }
+            }
+            write(directory.resolve(TOC_FILE_NAME), toc);
+            try (Stream<Path> files = Files.list(statementsDirectory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    if (!statementFiles.contains(file)) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resolveStatement(String hash) {
+        // normalize to base64url without padding, which is safe as a file name
+        String fileName = Base64UrlUtil.encodeToString(Base64UrlUtil.decode(hash));
+        return directory.resolve(STATEMENTS_DIRECTORY_NAME).resolve(fileName);
+    }
+
+    private String read(Path path) {
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Path path, String value) throws IOException {
+        Path temporaryFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporaryFile, value.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
@@ -25,4 +25,17 @@ public interface HttpClient {
 
     String fetch(String uri) throws MDSException;
 
+    /**
+     * Fetches the uri unless it is unchanged since {@code previous} was fetched. Implementations supporting
+     * conditional requests send {@code If-None-Match} and {@code If-Modified-Since} derived from {@code previous}.
+     *
+     * @param uri      uri to fetch
+     * @param previous previously fetched response of the same uri, or null
+     * @return the fetched response, or {@code previous} itself if the resource is not modified
+     * @throws MDSException if fetching fails
+     */
+    default HttpResponse fetch(String uri, HttpResponse previous) throws MDSException {
+        return new HttpResponse(fetch(uri), null, null);
+    }
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.util.AssertUtil;
+
+import java.util.Objects;
+
+/**
+ * Body of a fetched resource together with the validators needed to fetch it conditionally next time
+ */
+public class HttpResponse {
+
+    private final String body;
+    private final String eTag;
+    private final String lastModified;
+
+    /**
+     * @param body         response body
+     * @param eTag         value of the ETag header, or null
+     * @param lastModified value of the Last-Modified header, or null
+     */
+    public HttpResponse(String body, String eTag, String lastModified) {
+        AssertUtil.notNull(body, "body must not be null");
+        this.body = body;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HttpResponse that = (HttpResponse) o;
+        return Objects.equals(body, that.body) &&
+                Objects.equals(eTag, that.eTag) &&
+                Objects.equals(lastModified, that.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(body, eTag, lastModified);
+    }
+}
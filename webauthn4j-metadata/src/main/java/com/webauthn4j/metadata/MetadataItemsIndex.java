@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.HexUtil;
+
+import java.util.*;
+
+/**
+ * Immutable index of {@link MetadataItem}s by AAGUID, attestation certificate key identifier and AAID.
+ * <p>
+ * U2F authenticators all share {@link AAGUID#ZERO}, so they can only be told apart by the key identifier
+ * (the hex encoded subject key identifier) of their attestation certificate, and UAF authenticators by their AAID.
+ */
+public class MetadataItemsIndex {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Map<AAGUID, Set<MetadataItem>> byAaguid;
+    private final Map<String, Set<MetadataItem>> byAttestationCertificateKeyIdentifier;
+    private final Map<String, Set<MetadataItem>> byAaid;
+
+    public MetadataItemsIndex(Map<AAGUID, Set<MetadataItem>> metadataItemMap) {
+        AssertUtil.notNull(metadataItemMap, "metadataItemMap must not be null");
+        Map<AAGUID, Set<MetadataItem>> aaguidIndex = new HashMap<>();
+        Map<String, Set<MetadataItem>> keyIdentifierIndex = new HashMap<>();
+        Map<String, Set<MetadataItem>> aaidIndex = new HashMap<>();
+        for (Set<MetadataItem> metadataItems : metadataItemMap.values()) {
+            for (MetadataItem metadataItem : metadataItems) {
+                if (metadataItem.getAaguid() != null) {
+                    aaguidIndex.computeIfAbsent(metadataItem.getAaguid(), key -> new HashSet<>()).add(metadataItem);
+                }
+                if (metadataItem.getAttestationCertificateKeyIdentifiers() != null) {
+                    for (String keyIdentifier : metadataItem.getAttestationCertificateKeyIdentifiers()) {
+                        keyIdentifierIndex.computeIfAbsent(normalizeKeyIdentifier(keyIdentifier), key -> new HashSet<>()).add(metadataItem);
+                    }
+                }
+                if (metadataItem.getAaid() != null) {
+                    aaidIndex.computeIfAbsent(metadataItem.getAaid(), key -> new HashSet<>()).add(metadataItem);
+                }
+            }
+        }
+        this.byAaguid = freeze(aaguidIndex);
+        this.byAttestationCertificateKeyIdentifier = freeze(keyIdentifierIndex);
+        this.byAaid = freeze(aaidIndex);
+    }
+
+    /**
+     * @param aaguid aaguid
+     * @return the items whose AAGUID is the given one, or an empty set
+     */
+    public Set<MetadataItem> findByAaguid(AAGUID aaguid) {
+        AssertUtil.notNull(aaguid, "aaguid must not be null");
+        return byAaguid.getOrDefault(aaguid, Collections.emptySet());
+    }
+
+    /**
+     * @param keyIdentifier hex encoded subject key identifier of the attestation certificate, case insensitive
+     * @return the items listing the key identifier, or an empty set
+     */
+    public Set<MetadataItem> findByAttestationCertificateKeyIdentifier(String keyIdentifier) {
+        AssertUtil.notNull(keyIdentifier, "keyIdentifier must not be null");
+        return byAttestationCertificateKeyIdentifier.getOrDefault(normalizeKeyIdentifier(keyIdentifier), Collections.emptySet());
+    }
+
+    /**
+     * @param keyIdentifier subject key identifier of the attestation certificate
+     * @return the items listing the key identifier, or an empty set
+     */
+    public Set<MetadataItem> findByAttestationCertificateKeyIdentifier(byte[] keyIdentifier) {
+        AssertUtil.notNull(keyIdentifier, "keyIdentifier must not be null");
+        return findByAttestationCertificateKeyIdentifier(HexUtil.encodeToString(keyIdentifier));
+    }
+
+    /**
+     * @param aaid aaid
+     * @return the items whose AAID is the given one, or an empty set
+     */
+    public Set<MetadataItem> findByAaid(String aaid) {
+        AssertUtil.notNull(aaid, "aaid must not be null");
+        return byAaid.getOrDefault(aaid, Collections.emptySet());
+    }
+
+    private static String normalizeKeyIdentifier(String keyIdentifier) {
+        return keyIdentifier.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> Map<K, Set<MetadataItem>> freeze(Map<K, Set<MetadataItem>> index) {
+        index.replaceAll((key, value) -> Collections.unmodifiableSet(value));
+        return Collections.unmodifiableMap(index);
+    }
+}
@@ -20,6 +20,7 @@ import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.MetadataItem;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,16 +29,47 @@ public class MetadataItemsMetadataStatementsProvider implements MetadataStatemen
 
     private final MetadataItemsProvider metadataItemsProvider;
 
+    private volatile ConvertedMetadataStatements convertedMetadataStatements;
+
     public MetadataItemsMetadataStatementsProvider(MetadataItemsProvider metadataItemsProvider) {
         this.metadataItemsProvider = metadataItemsProvider;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is reused as long as the {@link MetadataItemsProvider} provides the same map instance.
+     */
     @Override
     public Map<AAGUID, Set<MetadataStatement>> provide() {
-        return metadataItemsProvider.provide().entrySet().stream()
+        Map<AAGUID, Set<MetadataItem>> metadataItems = metadataItemsProvider.provide();
+        ConvertedMetadataStatements converted = convertedMetadataStatements;
+        if (converted == null || converted.source != metadataItems) {
+            converted = new ConvertedMetadataStatements(metadataItems, Collections.unmodifiableMap(convert(metadataItems)));
+            convertedMetadataStatements = converted;
+        }
+        return converted.metadataStatements;
+    }
+
+    private Map<AAGUID, Set<MetadataStatement>> convert(Map<AAGUID, Set<MetadataItem>> metadataItems) {
+        return metadataItems.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        entry -> entry.getValue().stream().map(MetadataItem::getMetadataStatement).collect(Collectors.toSet())
+                        entry -> Collections.unmodifiableSet(entry.getValue().stream().map(MetadataItem::getMetadataStatement).collect(Collectors.toSet()))
                 ));
     }
+
+    /**
+     * Metadata statements converted from one map provided by the {@link MetadataItemsProvider}
+     */
+    private static class ConvertedMetadataStatements {
+
+        private final Map<AAGUID, Set<MetadataItem>> source;
+        private final Map<AAGUID, Set<MetadataStatement>> metadataStatements;
+
+        ConvertedMetadataStatements(Map<AAGUID, Set<MetadataItem>> source, Map<AAGUID, Set<MetadataStatement>> metadataStatements) {
+            this.source = source;
+            this.metadataStatements = metadataStatements;
+        }
+    }
 }
@@ -19,9 +19,22 @@ package com.webauthn4j.metadata;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.MetadataItem;
 
+import java.security.cert.X509Certificate;
 import java.util.Set;
 
 public interface MetadataItemsResolver {
 
     Set<MetadataItem> resolve(AAGUID aaguid);
+
+    /**
+     * Resolves metadata items for an authenticator, using its attestation certificate to tell apart authenticators
+     * sharing an AAGUID, such as U2F authenticators.
+     *
+     * @param aaguid                 aaguid of the authenticator
+     * @param attestationCertificate attestation certificate of the authenticator, or null
+     * @return metadata items
+     */
+    default Set<MetadataItem> resolve(AAGUID aaguid, X509Certificate attestationCertificate) {
+        return resolve(aaguid);
+    }
 }
@@ -19,29 +19,129 @@ package com.webauthn4j.metadata;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.MetadataItem;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CertificateUtil;
 
+import java.security.cert.X509Certificate;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public class MetadataItemsResolverImpl implements MetadataItemsResolver {
 
     private final MetadataItemsProvider metadataItemsProvider;
 
+    private volatile ResolvedMetadataItems resolvedMetadataItems = new ResolvedMetadataItems(null);
+
     public MetadataItemsResolverImpl(MetadataItemsProvider metadataItemsProvider) {
         this.metadataItemsProvider = metadataItemsProvider;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned set is immutable and shared between calls as long as the {@link MetadataItemsProvider} provides
+     * the same map instance.
+     */
     @Override
     public Set<MetadataItem> resolve(AAGUID aaguid) {
         AssertUtil.notNull(aaguid, "aaguid must not be null");
 
+        return getResolvedMetadataItems().resolve(aaguid);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For an authenticator without AAGUID, i.e. {@link AAGUID#ZERO} as U2F authenticators have, the metadata items
+     * without AAGUID which list the subject key identifier of the attestation certificate in
+     * attestationCertificateKeyIdentifiers are returned, if there are any. Otherwise, and for any other AAGUID, the
+     * result is the same as {@link #resolve(AAGUID)}.
+     */
+    @Override
+    public Set<MetadataItem> resolve(AAGUID aaguid, X509Certificate attestationCertificate) {
+        AssertUtil.notNull(aaguid, "aaguid must not be null");
+
+        ResolvedMetadataItems resolved = getResolvedMetadataItems();
+        // an authenticator with AAGUID is identified by it, so only the ones without are looked up by key identifier
+        if (attestationCertificate != null && AAGUID.ZERO.equals(aaguid)) {
+            byte[] keyIdentifier = CertificateUtil.getSubjectKeyIdentifier(attestationCertificate);
+            if (keyIdentifier != null) {
+                Set<MetadataItem> metadataItems = resolved.getIndex().findByAttestationCertificateKeyIdentifier(keyIdentifier).stream()
+                        .filter(metadataItem -> AAGUID.ZERO.equals(metadataItem.getAaguid()) || AAGUID.NULL.equals(metadataItem.getAaguid()))
+                        .collect(Collectors.toSet());
+                if (!metadataItems.isEmpty()) {
+                    return Collections.unmodifiableSet(metadataItems);
+                }
+            }
+        }
+        return resolved.resolve(aaguid);
+    }
+
+    /**
+     * Returns the index of the metadata items currently provided by the {@link MetadataItemsProvider}.
+     *
+     * @return {@link MetadataItemsIndex}
+     */
+    public MetadataItemsIndex getIndex() {
+        return getResolvedMetadataItems().getIndex();
+    }
+
+    private ResolvedMetadataItems getResolvedMetadataItems() {
         Map<AAGUID, Set<MetadataItem>> metadataItemMap = metadataItemsProvider.provide();
+        ResolvedMetadataItems resolved = resolvedMetadataItems;
+        if (resolved.source != metadataItemMap) {
+            resolved = new ResolvedMetadataItems(metadataItemMap);
+            resolvedMetadataItems = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Sets and index resolved from one map provided by the {@link MetadataItemsProvider}
+     */
+    private static class ResolvedMetadataItems {
+
+        private final Map<AAGUID, Set<MetadataItem>> source;
+        private final Map<AAGUID, Set<MetadataItem>> resolved = new ConcurrentHashMap<>();
+        private volatile Set<MetadataItem> common;
+        private volatile MetadataItemsIndex index;
+
+        ResolvedMetadataItems(Map<AAGUID, Set<MetadataItem>> source) {
+            this.source = source;
+        }
+
+        Set<MetadataItem> resolve(AAGUID aaguid) {
+            // only AAGUIDs present in the source are cached, so that the cache is bounded by the source
+            if (!source.containsKey(aaguid)) {
+                return getCommon();
+            }
+            return resolved.computeIfAbsent(aaguid, key -> {
+                Set<MetadataItem> set = new HashSet<>();
+                set.addAll(source.getOrDefault(AAGUID.NULL, Collections.emptySet()));
+                set.addAll(source.get(key));
+                return Collections.unmodifiableSet(set);
+            });
+        }
+
+        MetadataItemsIndex getIndex() {
+            MetadataItemsIndex metadataItemsIndex = index;
+            if (metadataItemsIndex == null) {
+                metadataItemsIndex = new MetadataItemsIndex(source);
+                index = metadataItemsIndex;
+            }
+            return metadataItemsIndex;
+        }
 
-        HashSet<MetadataItem> list = new HashSet<>();
-        list.addAll(metadataItemMap.getOrDefault(AAGUID.NULL, Collections.emptySet()));
-        list.addAll(metadataItemMap.getOrDefault(aaguid, Collections.emptySet()));
-        return list;
+        private Set<MetadataItem> getCommon() {
+            Set<MetadataItem> set = common;
+            if (set == null) {
+                set = Collections.unmodifiableSet(new HashSet<>(source.getOrDefault(AAGUID.NULL, Collections.emptySet())));
+                common = set;
+            }
+            return set;
+        }
     }
 }
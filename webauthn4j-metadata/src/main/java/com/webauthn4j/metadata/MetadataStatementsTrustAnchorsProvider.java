@@ -18,8 +18,10 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.anchor.TrustAnchorsProvider;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
 
 import java.security.cert.TrustAnchor;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,19 +30,51 @@ public class MetadataStatementsTrustAnchorsProvider implements TrustAnchorsProvi
 
     private final MetadataStatementsProvider metadataStatementsProvider;
 
+    private volatile ConvertedTrustAnchors convertedTrustAnchors;
+
     public MetadataStatementsTrustAnchorsProvider(MetadataStatementsProvider metadataStatementsProvider) {
         this.metadataStatementsProvider = metadataStatementsProvider;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is reused as long as the {@link MetadataStatementsProvider} provides the same map instance.
+     */
     @Override
     public Map<AAGUID, Set<TrustAnchor>> provide() {
-        return metadataStatementsProvider.provide().entrySet().stream()
+        Map<AAGUID, Set<MetadataStatement>> metadataStatements = metadataStatementsProvider.provide();
+        ConvertedTrustAnchors converted = convertedTrustAnchors;
+        if (converted == null || converted.source != metadataStatements) {
+            // concurrent callers may convert the same source twice, which is harmless as the results are equal
+            converted = new ConvertedTrustAnchors(metadataStatements, Collections.unmodifiableMap(convert(metadataStatements)));
+            convertedTrustAnchors = converted;
+        }
+        return converted.trustAnchors;
+    }
+
+    private Map<AAGUID, Set<TrustAnchor>> convert(Map<AAGUID, Set<MetadataStatement>> metadataStatements) {
+        return metadataStatements.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        entry -> entry.getValue().stream().flatMap(metadataStatement ->
+                        entry -> Collections.unmodifiableSet(entry.getValue().stream().flatMap(metadataStatement ->
                                 metadataStatement.getAttestationRootCertificates().stream()
                                         .map(certificate -> new TrustAnchor(certificate, null))
-                        ).collect(Collectors.toSet())
+                        ).collect(Collectors.toSet()))
                 ));
     }
+
+    /**
+     * Trust anchors converted from one map provided by the {@link MetadataStatementsProvider}
+     */
+    private static class ConvertedTrustAnchors {
+
+        private final Map<AAGUID, Set<MetadataStatement>> source;
+        private final Map<AAGUID, Set<TrustAnchor>> trustAnchors;
+
+        ConvertedTrustAnchors(Map<AAGUID, Set<MetadataStatement>> source, Map<AAGUID, Set<TrustAnchor>> trustAnchors) {
+            this.source = source;
+            this.trustAnchors = trustAnchors;
+        }
+    }
 }
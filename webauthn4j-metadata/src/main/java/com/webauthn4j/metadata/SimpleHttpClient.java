@@ -26,21 +26,35 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 
 /**
- * Tiny implementation of {@link HttpClient}. If you prefer more powerful one, implement {@link HttpClient} with
- * your favorite HTTP client library.
+ * Tiny implementation of {@link HttpClient}. For production use, see {@link UrlConnectionHttpClient}.
+ * If you prefer more powerful one, implement {@link HttpClient} with your favorite HTTP client library.
  */
 public class SimpleHttpClient implements HttpClient {
 
     @Override
     public String fetch(String url) {
+        return fetch(url, null).getBody();
+    }
+
+    @Override
+    public HttpResponse fetch(String url, HttpResponse previous) {
         try {
             URL fetchUrl = new URL(url);
             HttpURLConnection urlConnection = (HttpURLConnection) fetchUrl.openConnection();
             urlConnection.setRequestMethod("GET");
+            if (previous != null && previous.getETag() != null) {
+                urlConnection.setRequestProperty("If-None-Match", previous.getETag());
+            }
+            if (previous != null && previous.getLastModified() != null) {
+                urlConnection.setRequestProperty("If-Modified-Since", previous.getLastModified());
+            }
             urlConnection.connect();
 
             int status = urlConnection.getResponseCode();
 
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && previous != null) {
+                return previous;
+            }
             if (status == HttpURLConnection.HTTP_OK) {
                 InputStream inputStream = urlConnection.getInputStream();
                 BufferedInputStream bis = new BufferedInputStream(inputStream);
@@ -51,7 +65,7 @@ public class SimpleHttpClient implements HttpClient {
                     result = bis.read();
                 }
                 bis.close();
-                return buf.toString("UTF-8");
+                return new HttpResponse(buf.toString("UTF-8"), urlConnection.getHeaderField("ETag"), urlConnection.getHeaderField("Last-Modified"));
             }
             throw new MDSException("failed to fetch " + url);
         } catch (IOException e) {
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * {@link HttpClient} built on {@link HttpURLConnection} for production use.
+ * It reads responses in bulk, accepts gzip encoded responses, applies connect and read timeouts, and rejects
+ * responses exceeding a size limit. Response streams are read to the end and closed rather than disconnected, so
+ * that the JDK keeps the connection alive for the next request to the same host. Only a rejected body larger than
+ * a small limit is not drained, and its connection is disconnected instead.
+ */
+public class UrlConnectionHttpClient implements HttpClient {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_DISCARD_SIZE = 64 * 1024;
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private int maxResponseSize = 16 * 1024 * 1024;
+
+    @Override
+    public String fetch(String url) {
+        return fetch(url, null).getBody();
+    }
+
+    @Override
+    public HttpResponse fetch(String url, HttpResponse previous) {
+        HttpURLConnection urlConnection = openConnection(url);
+        if (previous != null && previous.getETag() != null) {
+            urlConnection.setRequestProperty("If-None-Match", previous.getETag());
+        }
+        if (previous != null && previous.getLastModified() != null) {
+            urlConnection.setRequestProperty("If-Modified-Since", previous.getLastModified());
+        }
+        try {
+            int status = urlConnection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && previous != null) {
+                discard(urlConnection);
+                return previous;
+            }
+            if (status != HttpURLConnection.HTTP_OK) {
+                discard(urlConnection);
+                throw new MDSException(String.format("failed to fetch %s: status %d", url, status));
+            }
+            byte[] body = read(urlConnection);
+            return new HttpResponse(new String(body, getCharset(urlConnection)),
+                    urlConnection.getHeaderField("ETag"), urlConnection.getHeaderField("Last-Modified"));
+        } catch (IOException e) {
+            throw new MDSException("failed to fetch " + url, e);
+        }
+    }
+
+    /**
+     * Fetches the url as raw bytes, skipping the decoding into a {@link String}
+     *
+     * @param url url to fetch
+     * @return response body
+     * @throws MDSException if fetching fails
+     */
+    public byte[] fetchBytes(String url) {
+        HttpURLConnection urlConnection = openConnection(url);
+        try {
+            int status = urlConnection.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                discard(urlConnection);
+                throw new MDSException(String.format("failed to fetch %s: status %d", url, status));
+            }
+            return read(urlConnection);
+        } catch (IOException e) {
+            throw new MDSException("failed to fetch " + url, e);
+        }
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        AssertUtil.notNull(connectTimeout, "connectTimeout must not be null");
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        AssertUtil.notNull(readTimeout, "readTimeout must not be null");
+        this.readTimeout = readTimeout;
+    }
+
+    public int getMaxResponseSize() {
+        return maxResponseSize;
+    }
+
+    /**
+     * @param maxResponseSize maximum size of a response body in bytes, after decompression
+     */
+    public void setMaxResponseSize(int maxResponseSize) {
+        if (maxResponseSize < 1) {
+            throw new IllegalArgumentException("maxResponseSize must be positive");
+        }
+        this.maxResponseSize = maxResponseSize;
+    }
+
+    private HttpURLConnection openConnection(String url) {
+        try {
+            HttpURLConnection urlConnection = (HttpURLConnection) new URL(url).openConnection();
+            urlConnection.setRequestMethod("GET");
+            urlConnection.setConnectTimeout((int) connectTimeout.toMillis());
+            urlConnection.setReadTimeout((int) readTimeout.toMillis());
+            urlConnection.setRequestProperty("Accept-Encoding", "gzip");
+            return urlConnection;
+        } catch (IOException e) {
+            throw new MDSException("failed to fetch " + url, e);
+        }
+    }
+
+    private byte[] read(HttpURLConnection urlConnection) throws IOException {
+        long contentLength = urlConnection.getContentLengthLong();
+        boolean gzip = "gzip".equalsIgnoreCase(urlConnection.getContentEncoding());
+        if (!gzip && contentLength > maxResponseSize) {
+            discard(urlConnection);
+            throw new MDSException(String.format("response of %s exceeds %d bytes", urlConnection.getURL(), maxResponseSize));
+        }
+        int initialSize = !gzip && contentLength > 0 ? (int) contentLength : BUFFER_SIZE;
+        try (InputStream rawInputStream = urlConnection.getInputStream();
+             InputStream inputStream = gzip ? new GZIPInputStream(rawInputStream, BUFFER_SIZE) : rawInputStream) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(initialSize);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                if (outputStream.size() + length > maxResponseSize) {
+                    // closing the stream would drain the rest of the body to keep the connection alive
+                    urlConnection.disconnect();
+                    throw new MDSException(String.format("response of %s exceeds %d bytes", urlConnection.getURL(), maxResponseSize));
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    /**
+     * Reads and closes the body of a rejected response, so that the underlying connection can be reused.
+     * A body larger than {@link #MAX_DISCARD_SIZE} is not worth reading, so the connection is disconnected instead.
+     */
+    private void discard(HttpURLConnection urlConnection) {
+        if (urlConnection.getContentLengthLong() > MAX_DISCARD_SIZE) {
+            urlConnection.disconnect();
+            return;
+        }
+        try {
+            InputStream inputStream = urlConnection.getErrorStream();
+            if (inputStream == null) {
+                inputStream = urlConnection.getInputStream();
+            }
+            try (InputStream closing = inputStream) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int remaining = MAX_DISCARD_SIZE;
+                int length;
+                while (remaining > 0 && (length = closing.read(buffer, 0, Math.min(buffer.length, remaining))) != -1) {
+                    remaining -= length;
+                }
+                if (remaining == 0 && closing.read() != -1) {
+                    urlConnection.disconnect();
+                }
+            }
+        } catch (IOException e) {
+            urlConnection.disconnect();
+        }
+    }
+
+    private Charset getCharset(HttpURLConnection urlConnection) {
+        String contentType = urlConnection.getContentType();
+        if (contentType != null) {
+            for (String parameter : contentType.split(";")) {
+                String trimmed = parameter.trim();
+                if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                    try {
+                        return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                    } catch (IllegalArgumentException e) {
+                        return StandardCharsets.UTF_8;
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
@@ -58,4 +58,21 @@ class AggregatingMetadataStatementsProviderTest {
         AggregatingMetadataStatementsProvider target = new AggregatingMetadataStatementsProvider(Arrays.asList(providerA, providerB));
         assertThat(target.provide()).containsOnlyKeys(new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void provide_reuses_result_while_delegates_are_unchanged_test() {
+        MetadataStatementsProvider providerA = mock(MetadataStatementsProvider.class);
+        Map<AAGUID, Set<MetadataStatement>> mapA = new HashMap<>();
+        mapA.put(new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812"), new HashSet<>());
+        when(providerA.provide()).thenReturn(mapA);
+
+        AggregatingMetadataStatementsProvider target = new AggregatingMetadataStatementsProvider(Collections.singletonList(providerA));
+        Map<AAGUID, Set<MetadataStatement>> result = target.provide();
+        assertThat(target.provide()).isSameAs(result);
+
+        Map<AAGUID, Set<MetadataStatement>> mapB = new HashMap<>();
+        mapB.put(new AAGUID("d075c221-6a37-4c61-80c7-11254460d5bb"), new HashSet<>());
+        when(providerA.provide()).thenReturn(mapB);
+        assertThat(target.provide()).isNotSameAs(result).containsOnlyKeys(new AAGUID("d075c221-6a37-4c61-80c7-11254460d5bb"));
+    }
+}
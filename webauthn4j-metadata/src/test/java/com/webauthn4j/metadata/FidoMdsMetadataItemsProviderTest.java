@@ -16,9 +16,34 @@
 
 package com.webauthn4j.metadata;
 
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.jws.JWAIdentifier;
+import com.webauthn4j.data.jws.JWSFactory;
+import com.webauthn4j.data.jws.JWSHeader;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayload;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.test.TestAttestationUtil;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class FidoMdsMetadataItemsProviderTest {
 
@@ -29,4 +54,226 @@ class FidoMdsMetadataItemsProviderTest {
         assertThat(FidoMdsMetadataItemsProvider.appendToken("https://mds2.fidoalliance.org/metadata/4e4e%234005/", "dummyToken")).isEqualTo("https://mds2.fidoalliance.org/metadata/4e4e%234005/?token=dummyToken");
     }
 
-}
\ No newline at end of file
+    @Test
+    void provide_serves_stale_items_while_refreshing_in_background_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        Map<AAGUID, Set<MetadataItem>> staleMetadataItemMap = new HashMap<>();
+        target.cachedMetadataItemMap = staleMetadataItemMap;
+        target.nextUpdate = OffsetDateTime.now(ZoneOffset.UTC).minusDays(1);
+        target.lastRefresh = OffsetDateTime.now(ZoneOffset.UTC).minusWeeks(1);
+        List<Runnable> tasks = new ArrayList<>();
+        target.setRefreshExecutor(tasks::add);
+
+        assertThat(target.provide()).isSameAs(staleMetadataItemMap);
+        assertThat(target.provide()).isSameAs(staleMetadataItemMap);
+        assertThat(tasks).hasSize(1);
+        assertThat(target.fetchCount).isZero();
+
+        tasks.get(0).run();
+        assertThat(target.fetchCount).isEqualTo(1);
+        assertThat(target.provide()).isNotSameAs(staleMetadataItemMap).isEmpty();
+        assertThat(target.needsRefresh()).isFalse();
+        assertThat(target.getLastRefreshFailure()).isNull();
+    }
+
+    @Test
+    void failed_background_refresh_keeps_stale_items_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        target.failure = new MDSException("unavailable");
+        Map<AAGUID, Set<MetadataItem>> staleMetadataItemMap = new HashMap<>();
+        target.cachedMetadataItemMap = staleMetadataItemMap;
+        target.nextUpdate = OffsetDateTime.now(ZoneOffset.UTC).minusDays(1);
+        target.lastRefresh = OffsetDateTime.now(ZoneOffset.UTC).minusWeeks(1);
+        target.setRefreshExecutor(Runnable::run);
+
+        assertThat(target.provide()).isSameAs(staleMetadataItemMap);
+        assertThat(target.fetchCount).isEqualTo(1);
+        assertThat(target.getLastRefreshFailure()).isNotNull();
+        assertThat(target.getLastRefreshFailureCause()).isSameAs(target.failure);
+        // failed attempts are throttled as well
+        assertThat(target.needsRefresh()).isFalse();
+        assertThat(target.provide()).isSameAs(staleMetadataItemMap);
+        assertThat(target.fetchCount).isEqualTo(1);
+    }
+
+    @Test
+    void provide_starts_from_snapshot_and_revalidates_in_background_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        FidoMdsSnapshotStore snapshotStore = mock(FidoMdsSnapshotStore.class);
+        when(snapshotStore.loadTOC()).thenReturn("dummy");
+        target.setSnapshotStore(snapshotStore);
+        List<Runnable> tasks = new ArrayList<>();
+        target.setRefreshExecutor(tasks::add);
+
+        assertThat(target.provide()).isEmpty();
+        assertThat(target.fetchCount).isZero();
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+        assertThat(target.fetchCount).isEqualTo(1);
+        assertThat(target.getLastRefresh()).isNotNull();
+        verify(snapshotStore).save("dummy", Collections.emptyMap());
+    }
+
+    @Test
+    void provide_without_snapshot_fetches_and_saves_snapshot_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        FidoMdsSnapshotStore snapshotStore = mock(FidoMdsSnapshotStore.class);
+        target.setSnapshotStore(snapshotStore);
+
+        assertThat(target.provide()).isEmpty();
+        assertThat(target.fetchCount).isEqualTo(1);
+        verify(snapshotStore).save("dummy", Collections.emptyMap());
+    }
+
+    @Test
+    void provide_rejects_snapshot_not_chained_to_fido_mds_root_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, TestAttestationUtil.load2tierTestAttestationCertificatePath());
+        MetadataTOCPayload payload = new MetadataTOCPayload("legalHeader", 1, LocalDate.now(ZoneOffset.UTC).plusDays(30), Collections.emptyList());
+        String toc = new JWSFactory().create(header, payload, TestAttestationUtil.load2tierTestAuthenticatorAttestationPrivateKey()).toString();
+        FidoMdsSnapshotStore snapshotStore = mock(FidoMdsSnapshotStore.class);
+        when(snapshotStore.loadTOC()).thenReturn(toc);
+        target.setSnapshotStore(snapshotStore);
+        List<Runnable> tasks = new ArrayList<>();
+        target.setRefreshExecutor(tasks::add);
+
+        assertThat(target.provide()).isEmpty();
+        assertThat(target.fetchCount).isEqualTo(1);
+        assertThat(tasks).isEmpty();
+        verify(snapshotStore).save("dummy", Collections.emptyMap());
+    }
+
+    @Test
+    void provide_rejects_snapshot_expired_longer_than_maxSnapshotAge_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        target.tocNextUpdate = LocalDate.now(ZoneOffset.UTC).minusDays(10);
+        FidoMdsSnapshotStore snapshotStore = mock(FidoMdsSnapshotStore.class);
+        when(snapshotStore.loadTOC()).thenReturn("dummy");
+        target.setSnapshotStore(snapshotStore);
+        List<Runnable> tasks = new ArrayList<>();
+        target.setRefreshExecutor(tasks::add);
+
+        assertThat(target.provide()).isEmpty();
+        assertThat(target.fetchCount).isEqualTo(1);
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void provide_starts_from_expired_snapshot_within_maxSnapshotAge_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        target.tocNextUpdate = LocalDate.now(ZoneOffset.UTC).minusDays(10);
+        target.setMaxSnapshotAge(Duration.ofDays(30));
+        FidoMdsSnapshotStore snapshotStore = mock(FidoMdsSnapshotStore.class);
+        when(snapshotStore.loadTOC()).thenReturn("dummy");
+        target.setSnapshotStore(snapshotStore);
+        List<Runnable> tasks = new ArrayList<>();
+        target.setRefreshExecutor(tasks::add);
+
+        assertThat(target.provide()).isEmpty();
+        assertThat(target.fetchCount).isZero();
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void refresh_waits_for_metadata_statements_until_one_deadline_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        for (int i = 0; i < 4; i++) {
+            target.entries.add(new MetadataTOCPayloadEntry(null, null, null, "hash" + i, URI.create("https://example.com/" + i), null, null, null, null, null));
+        }
+        target.setMaxConcurrentFetches(2);
+        target.setFetchTimeout(Duration.ofMillis(500));
+        target.setFetchExecutor(command -> new Thread(command).start());
+
+        long start = System.nanoTime();
+        try {
+            target.refresh();
+        } finally {
+            target.stalledFetches.countDown();
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1500));
+        assertThat(target.metadataStatementFetchCount).hasValue(2);
+        assertThat(target.provide()).isEmpty();
+    }
+
+    @Test
+    void incomplete_refresh_keeps_cached_items_and_snapshot_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        target.entries.add(new MetadataTOCPayloadEntry(null, null, null, "hash", URI.create("https://example.com/"), null, null, null, null, null));
+        target.setFetchTimeout(Duration.ofMillis(100));
+        target.setFetchExecutor(command -> {
+        });
+        FidoMdsSnapshotStore snapshotStore = mock(FidoMdsSnapshotStore.class);
+        target.setSnapshotStore(snapshotStore);
+        Map<AAGUID, Set<MetadataItem>> staleMetadataItemMap = new HashMap<>();
+        target.cachedMetadataItemMap = staleMetadataItemMap;
+        target.nextUpdate = OffsetDateTime.now(ZoneOffset.UTC).minusDays(1);
+        target.lastRefresh = OffsetDateTime.now(ZoneOffset.UTC).minusWeeks(1);
+
+        assertThrows(MDSException.class, target::refresh);
+        assertThat(target.provide()).isSameAs(staleMetadataItemMap);
+        assertThat(target.getLastRefreshFailure()).isNotNull();
+        verify(snapshotStore, never()).save(any(), any());
+    }
+
+    @Test
+    void incomplete_refresh_without_cached_items_is_retried_test() {
+        TestFidoMdsMetadataItemsProvider target = new TestFidoMdsMetadataItemsProvider();
+        target.entries.add(new MetadataTOCPayloadEntry(null, null, null, "hash", URI.create("https://example.com/"), null, null, null, null, null));
+        target.setFetchTimeout(Duration.ofMillis(100));
+        target.setFetchExecutor(command -> {
+        });
+        FidoMdsSnapshotStore snapshotStore = mock(FidoMdsSnapshotStore.class);
+        target.setSnapshotStore(snapshotStore);
+
+        assertThat(target.provide()).isEmpty();
+        assertThat(target.nextUpdate).isBeforeOrEqualTo(OffsetDateTime.now(ZoneOffset.UTC));
+        target.lastRefresh = OffsetDateTime.now(ZoneOffset.UTC).minusHours(2);
+        assertThat(target.needsRefresh()).isTrue();
+        verify(snapshotStore, never()).save(any(), any());
+    }
+
+    private static class TestFidoMdsMetadataItemsProvider extends FidoMdsMetadataItemsProvider {
+
+        private int fetchCount = 0;
+        private RuntimeException failure;
+        private final List<MetadataTOCPayloadEntry> entries = new ArrayList<>();
+        private final AtomicInteger metadataStatementFetchCount = new AtomicInteger();
+        private final CountDownLatch stalledFetches = new CountDownLatch(1);
+        private LocalDate tocNextUpdate = LocalDate.now(ZoneOffset.UTC).plusDays(30);
+
+        TestFidoMdsMetadataItemsProvider() {
+            super(new ObjectConverter(), mock(HttpClient.class));
+        }
+
+        @Override
+        String fetchMetadataTOC() {
+            fetchCount++;
+            if (failure != null) {
+                throw failure;
+            }
+            return "dummy";
+        }
+
+        @Override
+        MetadataTOCPayload parseMetadataTOC(String toc, boolean skipCertPathValidation, boolean checkRevocation) {
+            if (!toc.equals("dummy")) {
+                return super.parseMetadataTOC(toc, skipCertPathValidation, checkRevocation);
+            }
+            return new MetadataTOCPayload("legalHeader", 1, tocNextUpdate, entries);
+        }
+
+        @Override
+        String fetchMetadataStatementBase64url(String uri) {
+            metadataStatementFetchCount.incrementAndGet();
+            try {
+                stalledFetches.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new MDSException("unavailable");
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileFidoMdsSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void load_without_snapshot_test() {
+        FileFidoMdsSnapshotStore target = new FileFidoMdsSnapshotStore(directory);
+        assertThat(target.loadTOC()).isNull();
+        assertThat(target.loadMetadataStatement("Sl1MsjaaSHLy2fy6AkhADanzZ6FBA89plTu8rrOAzlc")).isNull();
+    }
+
+    @Test
+    void save_and_load_test() {
+        FileFidoMdsSnapshotStore target = new FileFidoMdsSnapshotStore(directory);
+        Map<String, String> metadataStatements = new HashMap<>();
+        metadataStatements.put("Sl1MsjaaSHLy2fy6AkhADanzZ6FBA89plTu8rrOAzlc", "statementA");
+        metadataStatements.put("AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8=", "statementB");
+        target.save("toc", metadataStatements);
+
+        FileFidoMdsSnapshotStore reloaded = new FileFidoMdsSnapshotStore(directory);
+        assertThat(reloaded.loadTOC()).isEqualTo("toc");
+        assertThat(reloaded.loadMetadataStatement("Sl1MsjaaSHLy2fy6AkhADanzZ6FBA89plTu8rrOAzlc")).isEqualTo("statementA");
+        assertThat(reloaded.loadMetadataStatement("AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8")).isEqualTo("statementB");
+    }
+
+    @Test
+    void save_removes_stale_statements_test() {
+        FileFidoMdsSnapshotStore target = new FileFidoMdsSnapshotStore(directory);
+        target.save("toc1", Collections.singletonMap("Sl1MsjaaSHLy2fy6AkhADanzZ6FBA89plTu8rrOAzlc", "statementA"));
+        target.save("toc2", Collections.singletonMap("AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8", "statementB"));
+
+        assertThat(target.loadTOC()).isEqualTo("toc2");
+        assertThat(target.loadMetadataStatement("Sl1MsjaaSHLy2fy6AkhADanzZ6FBA89plTu8rrOAzlc")).isNull();
+        assertThat(target.loadMetadataStatement("AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8")).isEqualTo("statementB");
+    }
+}
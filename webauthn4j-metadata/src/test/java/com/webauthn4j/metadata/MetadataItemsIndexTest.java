@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetadataItemsIndexTest {
+
+    private final AAGUID aaguid = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+    private final MetadataItem fido2MetadataItem = mock(MetadataItem.class);
+    private final MetadataItem u2fMetadataItem = mock(MetadataItem.class);
+    private final MetadataItem uafMetadataItem = mock(MetadataItem.class);
+    private final MetadataItemsIndex target;
+
+    MetadataItemsIndexTest() {
+        when(fido2MetadataItem.getAaguid()).thenReturn(aaguid);
+        when(u2fMetadataItem.getAaguid()).thenReturn(AAGUID.ZERO);
+        when(u2fMetadataItem.getAttestationCertificateKeyIdentifiers()).thenReturn(Arrays.asList("b70b6dcca71562c4c00d93f22df69e585377e1ac", "0ec851e9e63a6991146b3fa9190caced2c6a0fb2"));
+        when(uafMetadataItem.getAaguid()).thenReturn(AAGUID.NULL);
+        when(uafMetadataItem.getAaid()).thenReturn("4e4e#4005");
+
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = new HashMap<>();
+        metadataItemMap.put(aaguid, Collections.singleton(fido2MetadataItem));
+        metadataItemMap.put(AAGUID.ZERO, Collections.singleton(u2fMetadataItem));
+        metadataItemMap.put(AAGUID.NULL, Collections.singleton(uafMetadataItem));
+        target = new MetadataItemsIndex(metadataItemMap);
+    }
+
+    @Test
+    void findByAaguid_test() {
+        assertThat(target.findByAaguid(aaguid)).containsExactly(fido2MetadataItem);
+        assertThat(target.findByAaguid(new AAGUID("d075c221-6a37-4c61-80c7-11254460d5bb"))).isEmpty();
+    }
+
+    @Test
+    void findByAttestationCertificateKeyIdentifier_test() {
+        assertThat(target.findByAttestationCertificateKeyIdentifier("B70B6DCCA71562C4C00D93F22DF69E585377E1AC")).containsExactly(u2fMetadataItem);
+        assertThat(target.findByAttestationCertificateKeyIdentifier(HexUtil.decode("0EC851E9E63A6991146B3FA9190CACED2C6A0FB2"))).containsExactly(u2fMetadataItem);
+        assertThat(target.findByAttestationCertificateKeyIdentifier(new byte[20])).isEmpty();
+    }
+
+    @Test
+    void findByAaid_test() {
+        assertThat(target.findByAaid("4e4e#4005")).containsExactly(uafMetadataItem);
+        assertThat(target.findByAaid("4e4e#4006")).isEmpty();
+    }
+}
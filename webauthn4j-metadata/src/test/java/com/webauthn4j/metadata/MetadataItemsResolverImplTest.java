@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetadataItemsResolverImplTest {
+
+    private final AAGUID aaguid = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+    private final MetadataItem commonMetadataItem = mock(MetadataItem.class);
+    private final MetadataItem metadataItem = mock(MetadataItem.class);
+    private final MetadataItemsProvider metadataItemsProvider = mock(MetadataItemsProvider.class);
+    private final MetadataItemsResolverImpl target = new MetadataItemsResolverImpl(metadataItemsProvider);
+
+    MetadataItemsResolverImplTest() {
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = new HashMap<>();
+        metadataItemMap.put(AAGUID.NULL, Collections.singleton(commonMetadataItem));
+        metadataItemMap.put(aaguid, Collections.singleton(metadataItem));
+        when(metadataItemsProvider.provide()).thenReturn(metadataItemMap);
+    }
+
+    @Test
+    void resolve_test() {
+        Set<MetadataItem> resolved = target.resolve(aaguid);
+        assertThat(resolved).containsExactlyInAnyOrder(commonMetadataItem, metadataItem);
+        assertThat(target.resolve(aaguid)).isSameAs(resolved);
+        assertThrows(UnsupportedOperationException.class, () -> resolved.add(commonMetadataItem));
+    }
+
+    @Test
+    void resolve_with_unknown_aaguid_test() {
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(commonMetadataItem);
+    }
+
+    @Test
+    void resolve_after_provided_map_changed_test() {
+        Set<MetadataItem> resolved = target.resolve(aaguid);
+        when(metadataItemsProvider.provide()).thenReturn(Collections.singletonMap(aaguid, Collections.singleton(metadataItem)));
+        assertThat(target.resolve(aaguid)).isNotSameAs(resolved).containsExactly(metadataItem);
+    }
+
+    @Test
+    void resolve_with_attestationCertificate_test() {
+        MetadataItem u2fMetadataItem = mock(MetadataItem.class);
+        when(u2fMetadataItem.getAaguid()).thenReturn(AAGUID.ZERO);
+        when(u2fMetadataItem.getAttestationCertificateKeyIdentifiers()).thenReturn(Collections.singletonList("b70b6dcca71562c4c00d93f22df69e585377e1ac"));
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = new HashMap<>();
+        metadataItemMap.put(AAGUID.NULL, Collections.singleton(commonMetadataItem));
+        metadataItemMap.put(AAGUID.ZERO, Collections.singleton(u2fMetadataItem));
+        when(metadataItemsProvider.provide()).thenReturn(metadataItemMap);
+
+        assertThat(target.resolve(AAGUID.ZERO, TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())).containsExactly(u2fMetadataItem);
+        assertThat(target.resolve(AAGUID.ZERO, TestAttestationUtil.load2tierTestAuthenticatorAttestationCertificate())).containsExactlyInAnyOrder(commonMetadataItem, u2fMetadataItem);
+        assertThat(target.resolve(AAGUID.ZERO, null)).containsExactlyInAnyOrder(commonMetadataItem, u2fMetadataItem);
+    }
+
+    @Test
+    void resolve_with_attestationCertificate_listed_for_other_aaguid_test() {
+        MetadataItem otherMetadataItem = mock(MetadataItem.class);
+        when(otherMetadataItem.getAaguid()).thenReturn(new AAGUID("49e25c43-a6d1-49f0-bcfa-23e23a7c0e52"));
+        when(otherMetadataItem.getAttestationCertificateKeyIdentifiers()).thenReturn(Collections.singletonList("b70b6dcca71562c4c00d93f22df69e585377e1ac"));
+        when(metadataItem.getAaguid()).thenReturn(aaguid);
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = new HashMap<>();
+        metadataItemMap.put(AAGUID.NULL, Collections.singleton(commonMetadataItem));
+        metadataItemMap.put(aaguid, Collections.singleton(metadataItem));
+        metadataItemMap.put(otherMetadataItem.getAaguid(), Collections.singleton(otherMetadataItem));
+        when(metadataItemsProvider.provide()).thenReturn(metadataItemMap);
+
+        assertThat(target.resolve(aaguid, TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())).containsExactlyInAnyOrder(commonMetadataItem, metadataItem);
+        assertThat(target.resolve(AAGUID.ZERO, TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())).containsExactly(commonMetadataItem);
+    }
+}
@@ -17,6 +17,7 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.test.TestDataUtil;
 import org.junit.jupiter.api.Test;
@@ -42,4 +43,18 @@ class MetadataStatementsTrustAnchorsProviderTest {
         assertThat(result.get(aaguid).stream().map(TrustAnchor::getTrustedCert)).contains(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate());
     }
 
-}
\ No newline at end of file
+    @Test
+    void provide_reuses_result_while_metadataStatements_are_unchanged_test() {
+        MetadataStatementsProvider metadataStatementsProvider = mock(MetadataStatementsProvider.class);
+        AAGUID aaguid = new AAGUID("49e25c43-a6d1-49f0-bcfa-23e23a7c0e52");
+        Map<AAGUID, Set<MetadataStatement>> metadataStatements = Collections.singletonMap(aaguid, Collections.singleton(TestDataUtil.createMetadataStatement()));
+        when(metadataStatementsProvider.provide()).thenReturn(metadataStatements);
+        MetadataStatementsTrustAnchorsProvider metadataStatementsTrustAnchorsProvider = new MetadataStatementsTrustAnchorsProvider(metadataStatementsProvider);
+        Map<AAGUID, Set<TrustAnchor>> result = metadataStatementsTrustAnchorsProvider.provide();
+        assertThat(metadataStatementsTrustAnchorsProvider.provide()).isSameAs(result);
+
+        when(metadataStatementsProvider.provide()).thenReturn(Collections.singletonMap(aaguid, Collections.singleton(TestDataUtil.createMetadataStatement())));
+        assertThat(metadataStatementsTrustAnchorsProvider.provide()).isNotSameAs(result).containsOnlyKeys(aaguid);
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.sun.net.httpserver.HttpServer;
+import com.webauthn4j.metadata.exception.MDSException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UrlConnectionHttpClientTest {
+
+    private static final byte[] BODY = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+    private static final long LARGE_BODY_SIZE = 64L * 1024 * 1024;
+
+    private final UrlConnectionHttpClient target = new UrlConnectionHttpClient();
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicLong largeBodyWritten = new AtomicLong();
+    private final CountDownLatch largeBodyHandled = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/plain", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(BODY);
+            }
+        });
+        server.createContext("/gzip", exchange -> {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+                gzipOutputStream.write(BODY);
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.size());
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                compressed.writeTo(outputStream);
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/large-error", exchange -> {
+            exchange.sendResponseHeaders(500, 0);
+            byte[] chunk = new byte[8192];
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                while (largeBodyWritten.get() < LARGE_BODY_SIZE) {
+                    outputStream.write(chunk);
+                    largeBodyWritten.addAndGet(chunk.length);
+                }
+            } catch (IOException e) {
+                // the client disconnected
+            } finally {
+                largeBodyHandled.countDown();
+            }
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetch_test() {
+        assertThat(target.fetch(baseUrl + "/plain")).isEqualTo("{\"key\":\"value\"}");
+        assertThat(target.fetchBytes(baseUrl + "/plain")).isEqualTo(BODY);
+    }
+
+    @Test
+    void fetch_gzip_encoded_response_test() {
+        assertThat(target.fetch(baseUrl + "/gzip")).isEqualTo("{\"key\":\"value\"}");
+    }
+
+    @Test
+    void fetch_not_modified_test() {
+        HttpResponse response = target.fetch(baseUrl + "/plain", null);
+        assertThat(response.getETag()).isEqualTo("\"v1\"");
+        assertThat(target.fetch(baseUrl + "/plain", response)).isSameAs(response);
+    }
+
+    @Test
+    void fetch_with_error_status_test() {
+        assertThrows(MDSException.class, () -> target.fetch(baseUrl + "/missing"));
+    }
+
+    @Test
+    void fetch_with_error_status_and_large_body_test() throws InterruptedException {
+        assertThrows(MDSException.class, () -> target.fetch(baseUrl + "/large-error"));
+        assertThat(largeBodyHandled.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(largeBodyWritten.get()).isLessThan(target.getMaxResponseSize());
+    }
+
+    @Test
+    void fetch_response_exceeding_maxResponseSize_test() {
+        target.setMaxResponseSize(BODY.length - 1);
+        assertThrows(MDSException.class, () -> target.fetch(baseUrl + "/plain"));
+        assertThrows(MDSException.class, () -> target.fetch(baseUrl + "/gzip"));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import javax.crypto.Mac;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.Provider;
+import java.security.Signature;
+
+/**
+ * Base class of {@link CryptoEngineProvider} implementations which reuse released engines.
+ * <p>
+ * Released engines are kept by their algorithm name and handed out again for the same algorithm.
+ * {@link MessageDigest} is reset on release. A pooled {@link Signature} keeps the JCA provider
+ * selected on its first initialization, so keys from an incompatible provider are not supported.
+ * {@link Mac} is not pooled, as {@link Mac#reset()} keeps the key it was initialized with, and pooling would keep
+ * secrets such as HMAC keys in memory after use.
+ */
+public abstract class AbstractPoolingCryptoEngineProvider extends DefaultCryptoEngineProvider {
+
+    protected AbstractPoolingCryptoEngineProvider(Provider provider) {
+        super(provider);
+    }
+
+    protected AbstractPoolingCryptoEngineProvider(String providerName) {
+        super(providerName);
+    }
+
+    protected AbstractPoolingCryptoEngineProvider() {
+        super();
+    }
+
+    @Override
+    public Signature getSignature(String algorithm) {
+        Signature signature = poll(Signature.class, algorithm);
+        return signature != null ? signature : super.getSignature(algorithm);
+    }
+
+    @Override
+    public MessageDigest getMessageDigest(String algorithm) {
+        MessageDigest messageDigest = poll(MessageDigest.class, algorithm);
+        return messageDigest != null ? messageDigest : super.getMessageDigest(algorithm);
+    }
+
+    @Override
+    public KeyFactory getKeyFactory(String algorithm) {
+        KeyFactory keyFactory = poll(KeyFactory.class, algorithm);
+        return keyFactory != null ? keyFactory : super.getKeyFactory(algorithm);
+    }
+
+    @Override
+    public void release(Signature signature) {
+        if (signature != null) {
+            offer(Signature.class, signature.getAlgorithm(), signature);
+        }
+    }
+
+    @Override
+    public void release(MessageDigest messageDigest) {
+        if (messageDigest != null) {
+            messageDigest.reset();
+            offer(MessageDigest.class, messageDigest.getAlgorithm(), messageDigest);
+        }
+    }
+
+    @Override
+    public void release(KeyFactory keyFactory) {
+        if (keyFactory != null) {
+            offer(KeyFactory.class, keyFactory.getAlgorithm(), keyFactory);
+        }
+    }
+
+    /**
+     * Takes an idle engine out of the pool
+     *
+     * @param engineType engine type
+     * @param algorithm  algorithm name
+     * @param <T>        engine type
+     * @return an idle engine, or null if there is no idle engine
+     */
+    protected abstract <T> T poll(Class<T> engineType, String algorithm);
+
+    /**
+     * Returns an engine to the pool. The engine may be discarded if the pool is full.
+     *
+     * @param engineType engine type
+     * @param algorithm  algorithm name
+     * @param engine     engine
+     * @param <T>        engine type
+     */
+    protected abstract <T> void offer(Class<T> engineType, String algorithm, T engine);
+}
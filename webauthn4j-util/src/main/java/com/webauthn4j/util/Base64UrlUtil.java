@@ -16,6 +16,7 @@
 
 package com.webauthn4j.util;
 
+import java.nio.ByteBuffer;
 import java.util.Base64;
 
 /**
@@ -37,6 +38,25 @@ public class Base64UrlUtil {
         return decoder.decode(source);
     }
 
+    /**
+     * Decodes the specified range of the source without copying it first
+     *
+     * @param source source
+     * @param offset offset of the range
+     * @param length length of the range
+     * @return decoded bytes
+     */
+    public static byte[] decode(byte[] source, int offset, int length) {
+        ByteBuffer decoded = decoder.decode(ByteBuffer.wrap(source, offset, length));
+        byte[] array = decoded.array();
+        if (decoded.arrayOffset() == 0 && decoded.position() == 0 && decoded.remaining() == array.length) {
+            return array;
+        }
+        byte[] bytes = new byte[decoded.remaining()];
+        decoded.get(bytes);
+        return bytes;
+    }
+
     public static byte[] encode(byte[] source) {
         return encoder.encode(source);
     }
@@ -25,6 +25,7 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.*;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,6 +35,13 @@ import java.util.stream.Collectors;
  */
 public class CertificateUtil {
 
+    private static final String SUBJECT_KEY_IDENTIFIER_OID = "2.5.29.14";
+    private static final String AUTHORITY_KEY_IDENTIFIER_OID = "2.5.29.35";
+
+    private static final int DER_TAG_OCTET_STRING = 0x04;
+    private static final int DER_TAG_SEQUENCE = 0x30;
+    private static final int DER_TAG_KEY_IDENTIFIER = 0x80;
+
     private static final CertificateFactory certificateFactory;
 
     static {
@@ -96,4 +104,75 @@ public class CertificateUtil {
         }
     }
 
+    /**
+     * Extracts the keyIdentifier of the subject key identifier extension
+     *
+     * @param certificate certificate
+     * @return the keyIdentifier, or null if the certificate doesn't have a well-formed subject key identifier extension
+     */
+    public static byte[] getSubjectKeyIdentifier(X509Certificate certificate) {
+        byte[] extensionValue = certificate.getExtensionValue(SUBJECT_KEY_IDENTIFIER_OID);
+        if (extensionValue == null) {
+            return null;
+        }
+        // OCTET STRING { SubjectKeyIdentifier ::= OCTET STRING }
+        int[] extnValue = readDerHeader(extensionValue, 0, DER_TAG_OCTET_STRING);
+        if (extnValue == null) {
+            return null;
+        }
+        int[] keyIdentifier = readDerHeader(extensionValue, extnValue[0], DER_TAG_OCTET_STRING);
+        return keyIdentifier == null ? null : Arrays.copyOfRange(extensionValue, keyIdentifier[0], keyIdentifier[0] + keyIdentifier[1]);
+    }
+
+    /**
+     * Extracts the keyIdentifier of the authority key identifier extension
+     *
+     * @param certificate certificate
+     * @return the keyIdentifier, or null if the certificate doesn't have a well-formed authority key identifier extension with keyIdentifier
+     */
+    public static byte[] getAuthorityKeyIdentifier(X509Certificate certificate) {
+        byte[] extensionValue = certificate.getExtensionValue(AUTHORITY_KEY_IDENTIFIER_OID);
+        if (extensionValue == null) {
+            return null;
+        }
+        // OCTET STRING { AuthorityKeyIdentifier ::= SEQUENCE { keyIdentifier [0] IMPLICIT OCTET STRING OPTIONAL, ... } }
+        int[] extnValue = readDerHeader(extensionValue, 0, DER_TAG_OCTET_STRING);
+        if (extnValue == null) {
+            return null;
+        }
+        int[] sequence = readDerHeader(extensionValue, extnValue[0], DER_TAG_SEQUENCE);
+        if (sequence == null || sequence[1] == 0) {
+            return null;
+        }
+        int[] keyIdentifier = readDerHeader(extensionValue, sequence[0], DER_TAG_KEY_IDENTIFIER);
+        return keyIdentifier == null ? null : Arrays.copyOfRange(extensionValue, keyIdentifier[0], keyIdentifier[0] + keyIdentifier[1]);
+    }
+
+    /**
+     * Reads a DER header
+     *
+     * @return offset and length of the value, or null if the header doesn't have the expected tag or is malformed
+     */
+    private static int[] readDerHeader(byte[] source, int offset, int expectedTag) {
+        if (offset + 2 > source.length || (source[offset] & 0xFF) != expectedTag) {
+            return null;
+        }
+        int position = offset + 1;
+        int length = source[position++] & 0xFF;
+        if (length > 0x7F) {
+            int lengthOfLength = length & 0x7F;
+            if (lengthOfLength == 0 || lengthOfLength > 3 || position + lengthOfLength > source.length) {
+                return null;
+            }
+            length = 0;
+            for (int i = 0; i < lengthOfLength; i++) {
+                length = (length << 8) | (source[position++] & 0xFF);
+            }
+        }
+        if (length > source.length - position) {
+            return null;
+        }
+        return new int[]{position, length};
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import javax.crypto.Mac;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.Signature;
+
+/**
+ * Provides JCA engine instances used by WebAuthn4J.
+ * <p>
+ * An engine obtained from a get method should be handed back with the corresponding release method once the
+ * caller finished using it, so that pooling implementations can reuse it. An engine must not be used after it is released.
+ * Engines are returned in an arbitrary state, so callers must initialize them (e.g. {@link Signature#initVerify})
+ * before use.
+ */
+public interface CryptoEngineProvider {
+
+    /**
+     * Returns a {@link Signature} for the algorithm
+     *
+     * @param algorithm JCA signature algorithm name
+     * @return {@link Signature}
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    Signature getSignature(String algorithm);
+
+    /**
+     * Returns a {@link MessageDigest} for the algorithm
+     *
+     * @param algorithm JCA message digest algorithm name
+     * @return {@link MessageDigest}
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    MessageDigest getMessageDigest(String algorithm);
+
+    /**
+     * Returns a {@link KeyFactory} for the algorithm
+     *
+     * @param algorithm JCA key algorithm name
+     * @return {@link KeyFactory}
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    KeyFactory getKeyFactory(String algorithm);
+
+    /**
+     * Returns a {@link Mac} for the algorithm
+     *
+     * @param algorithm JCA MAC algorithm name
+     * @return {@link Mac}
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    Mac getMac(String algorithm);
+
+    default void release(Signature signature) {
+        // nop
+    }
+
+    default void release(MessageDigest messageDigest) {
+        // nop
+    }
+
+    default void release(KeyFactory keyFactory) {
+        // nop
+    }
+
+    default void release(Mac mac) {
+        // nop
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+/**
+ * Holds the {@link CryptoEngineProvider} used by WebAuthn4J to obtain JCA engines
+ */
+public class CryptoEngineUtil {
+
+    private static volatile CryptoEngineProvider cryptoEngineProvider = new DefaultCryptoEngineProvider();
+
+    private CryptoEngineUtil() {
+    }
+
+    public static CryptoEngineProvider getCryptoEngineProvider() {
+        return cryptoEngineProvider;
+    }
+
+    /**
+     * Replaces the {@link CryptoEngineProvider} used by WebAuthn4J. It is expected to be configured once on application startup.
+     *
+     * @param cryptoEngineProvider {@link CryptoEngineProvider}
+     */
+    public static void setCryptoEngineProvider(CryptoEngineProvider cryptoEngineProvider) {
+        AssertUtil.notNull(cryptoEngineProvider, "cryptoEngineProvider must not be null");
+        CryptoEngineUtil.cryptoEngineProvider = cryptoEngineProvider;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import javax.crypto.Mac;
+import java.security.*;
+
+/**
+ * {@link CryptoEngineProvider} which creates a new engine instance on every request.
+ * <p>
+ * If a {@link Provider} is specified, engines are always created from it instead of the JCA provider lookup.
+ */
+public class DefaultCryptoEngineProvider implements CryptoEngineProvider {
+
+    private final Provider provider;
+
+    public DefaultCryptoEngineProvider(Provider provider) {
+        this.provider = provider;
+    }
+
+    public DefaultCryptoEngineProvider(String providerName) {
+        this(getRegisteredProvider(providerName));
+    }
+
+    public DefaultCryptoEngineProvider() {
+        this((Provider) null);
+    }
+
+    static Provider getRegisteredProvider(String providerName) {
+        AssertUtil.notNull(providerName, "providerName must not be null");
+        Provider provider = Security.getProvider(providerName);
+        if (provider == null) {
+            throw new IllegalArgumentException(String.format("Provider '%s' is not registered.", providerName));
+        }
+        return provider;
+    }
+
+    @Override
+    public Signature getSignature(String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        try {
+            return provider == null ? Signature.getInstance(algorithm) : Signature.getInstance(algorithm, provider);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public MessageDigest getMessageDigest(String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        try {
+            return provider == null ? MessageDigest.getInstance(algorithm) : MessageDigest.getInstance(algorithm, provider);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public KeyFactory getKeyFactory(String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        try {
+            return provider == null ? KeyFactory.getInstance(algorithm) : KeyFactory.getInstance(algorithm, provider);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public Mac getMac(String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        try {
+            return provider == null ? Mac.getInstance(algorithm) : Mac.getInstance(algorithm, provider);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public Provider getProvider() {
+        return provider;
+    }
+}
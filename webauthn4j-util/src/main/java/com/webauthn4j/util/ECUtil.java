@@ -73,20 +73,26 @@ public class ECUtil {
     }
 
     public static PublicKey createPublicKey(ECPublicKeySpec ecPublicKeySpec) {
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        KeyFactory factory = cryptoEngineProvider.getKeyFactory("EC");
         try {
-            KeyFactory factory = KeyFactory.getInstance("EC");
             return factory.generatePublic(ecPublicKeySpec);
-        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+        } catch (InvalidKeySpecException e) {
             throw new UnexpectedCheckedException(e);
+        } finally {
+            cryptoEngineProvider.release(factory);
         }
     }
 
     public static PrivateKey createPrivateKey(ECPrivateKeySpec ecPrivateKeySpec) {
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        KeyFactory factory = cryptoEngineProvider.getKeyFactory("EC");
         try {
-            KeyFactory factory = KeyFactory.getInstance("EC");
             return factory.generatePrivate(ecPrivateKeySpec);
-        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+        } catch (InvalidKeySpecException e) {
             throw new UnexpectedCheckedException(e);
+        } finally {
+            cryptoEngineProvider.release(factory);
         }
     }
 
@@ -132,12 +138,16 @@ public class ECUtil {
     }
 
     private static PublicKey createPublicKey(byte[] x, byte[] y) {
+        byte[] encodedPublicKey = ByteBuffer.allocate(1 + x.length + y.length).put(new byte[]{0x04}).put(x).put(y).array();
+        ECPoint point = createECPoint(encodedPublicKey);
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        KeyFactory factory = cryptoEngineProvider.getKeyFactory("ECDSA");
         try {
-            byte[] encodedPublicKey = ByteBuffer.allocate(1 + x.length + y.length).put(new byte[]{0x04}).put(x).put(y).array();
-            ECPoint point = createECPoint(encodedPublicKey);
-            return KeyFactory.getInstance("ECDSA").generatePublic(new ECPublicKeySpec(point, ECUtil.P_256_SPEC));
-        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+            return factory.generatePublic(new ECPublicKeySpec(point, ECUtil.P_256_SPEC));
+        } catch (InvalidKeySpecException e) {
             throw new UnexpectedCheckedException(e);
+        } finally {
+            cryptoEngineProvider.release(factory);
         }
     }
 
@@ -22,7 +22,6 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 
 public class HKDFUtil {
 
@@ -99,16 +98,23 @@ public class HKDFUtil {
 
         ByteBuffer generatedBytes = ByteBuffer.allocate(Math.multiplyExact(n, HASH_LENGTH));
 
-        Mac mac = createMac(key);
-
-        for (int roundNum = 1; roundNum <= n; roundNum++) {
-            mac.reset();
-            byte[] secret = ByteBuffer
-                    .allocate(hashRound.length + info.length + 1)
-                    .put(hashRound).put(info).put((byte) roundNum)
-                    .array();
-            hashRound = mac.doFinal(secret);
-            generatedBytes.put(hashRound);
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        Mac mac = cryptoEngineProvider.getMac("HmacSHA256");
+        try {
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            for (int roundNum = 1; roundNum <= n; roundNum++) {
+                mac.reset();
+                byte[] secret = ByteBuffer
+                        .allocate(hashRound.length + info.length + 1)
+                        .put(hashRound).put(info).put((byte) roundNum)
+                        .array();
+                hashRound = mac.doFinal(secret);
+                generatedBytes.put(hashRound);
+            }
+        } catch (InvalidKeyException e) {
+            throw new UnexpectedCheckedException(e);
+        } finally {
+            cryptoEngineProvider.release(mac);
         }
 
         byte[] result = new byte[outputLength];
@@ -117,15 +123,4 @@ public class HKDFUtil {
         return result;
     }
 
-    private static Mac createMac(byte[] key) {
-        Mac mac;
-        try {
-            mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(key, "HmacSHA256"));
-            return mac;
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            throw new UnexpectedCheckedException(e);
-        }
-    }
-
 }
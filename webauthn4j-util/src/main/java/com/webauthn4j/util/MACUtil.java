@@ -21,7 +21,6 @@ import com.webauthn4j.util.exception.UnexpectedCheckedException;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 
 /**
@@ -37,14 +36,17 @@ public class MACUtil {
     }
 
     public static byte[] calculateHmacSHA256(byte[] message, byte[] secret, int outputLength) {
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        Mac mac = cryptoEngineProvider.getMac("HmacSHA256");
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
             SecretKeySpec secretKeySpec = new SecretKeySpec(secret, "HmacSHA256");
             mac.init(secretKeySpec);
             byte[] hmac = mac.doFinal(message);
             return Arrays.copyOf(hmac, outputLength);
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+        } catch (InvalidKeyException e) {
             throw new UnexpectedCheckedException(e);
+        } finally {
+            cryptoEngineProvider.release(mac);
         }
     }
 }
@@ -17,7 +17,6 @@
 package com.webauthn4j.util;
 
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
 /**
  * A Utility class for MessageDigest
@@ -29,19 +28,16 @@ public class MessageDigestUtil {
     }
 
     public static MessageDigest createMessageDigest(String hashAlgorithm) {
-        try {
-            switch (hashAlgorithm) {
-                case "S256":
-                    return MessageDigest.getInstance("SHA-256");
-                case "S384":
-                    return MessageDigest.getInstance("SHA-384");
-                case "S512":
-                    return MessageDigest.getInstance("SHA-512");
-                default:
-                    return MessageDigest.getInstance(hashAlgorithm);
-            }
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalArgumentException(e);
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        switch (hashAlgorithm) {
+            case "S256":
+                return cryptoEngineProvider.getMessageDigest("SHA-256");
+            case "S384":
+                return cryptoEngineProvider.getMessageDigest("SHA-384");
+            case "S512":
+                return cryptoEngineProvider.getMessageDigest("SHA-512");
+            default:
+                return cryptoEngineProvider.getMessageDigest(hashAlgorithm);
         }
     }
 
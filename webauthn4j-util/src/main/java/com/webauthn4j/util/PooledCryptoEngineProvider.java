@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import java.security.Provider;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CryptoEngineProvider} which shares a bounded pool of idle engines across threads.
+ * <p>
+ * At most {@code maxIdlePerAlgorithm} idle engines are kept for each engine type and algorithm.
+ * When the pool is empty, a new engine is created, and when it is full, a released engine is discarded.
+ */
+public class PooledCryptoEngineProvider extends AbstractPoolingCryptoEngineProvider {
+
+    private static final int DEFAULT_MAX_IDLE_PER_ALGORITHM = 64;
+
+    private final int maxIdlePerAlgorithm;
+    private final Map<Class<?>, Map<String, Queue<Object>>> pools = new ConcurrentHashMap<>();
+
+    public PooledCryptoEngineProvider(Provider provider, int maxIdlePerAlgorithm) {
+        super(provider);
+        AssertUtil.isTrue(maxIdlePerAlgorithm > 0, "maxIdlePerAlgorithm must be positive");
+        this.maxIdlePerAlgorithm = maxIdlePerAlgorithm;
+    }
+
+    public PooledCryptoEngineProvider(String providerName, int maxIdlePerAlgorithm) {
+        this(getRegisteredProvider(providerName), maxIdlePerAlgorithm);
+    }
+
+    public PooledCryptoEngineProvider(int maxIdlePerAlgorithm) {
+        this((Provider) null, maxIdlePerAlgorithm);
+    }
+
+    public PooledCryptoEngineProvider() {
+        this(DEFAULT_MAX_IDLE_PER_ALGORITHM);
+    }
+
+    @Override
+    protected <T> T poll(Class<T> engineType, String algorithm) {
+        Map<String, Queue<Object>> pool = pools.get(engineType);
+        if (pool == null) {
+            return null;
+        }
+        Queue<Object> queue = pool.get(algorithm);
+        if (queue == null) {
+            return null;
+        }
+        return engineType.cast(queue.poll());
+    }
+
+    @Override
+    protected <T> void offer(Class<T> engineType, String algorithm, T engine) {
+        Map<String, Queue<Object>> pool = pools.computeIfAbsent(engineType, key -> new ConcurrentHashMap<>());
+        Queue<Object> queue = pool.get(algorithm);
+        if (queue == null) {
+            queue = pool.computeIfAbsent(algorithm, key -> new ArrayBlockingQueue<>(maxIdlePerAlgorithm));
+        }
+        queue.offer(engine);
+    }
+
+    public int getMaxIdlePerAlgorithm() {
+        return maxIdlePerAlgorithm;
+    }
+}
@@ -30,20 +30,26 @@ public class RSAUtil {
     }
 
     public static PublicKey createPublicKey(RSAPublicKeySpec rsaPublicKeySpec) {
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        KeyFactory factory = cryptoEngineProvider.getKeyFactory("RSA");
         try {
-            KeyFactory factory = KeyFactory.getInstance("RSA");
             return factory.generatePublic(rsaPublicKeySpec);
-        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+        } catch (InvalidKeySpecException e) {
             throw new UnexpectedCheckedException(e);
+        } finally {
+            cryptoEngineProvider.release(factory);
         }
     }
 
     public static PrivateKey createPrivateKey(RSAPrivateKeySpec rsaPrivateKeySpec) {
+        CryptoEngineProvider cryptoEngineProvider = CryptoEngineUtil.getCryptoEngineProvider();
+        KeyFactory factory = cryptoEngineProvider.getKeyFactory("RSA");
         try {
-            KeyFactory factory = KeyFactory.getInstance("RSA");
             return factory.generatePrivate(rsaPrivateKeySpec);
-        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+        } catch (InvalidKeySpecException e) {
             throw new UnexpectedCheckedException(e);
+        } finally {
+            cryptoEngineProvider.release(factory);
         }
     }
 
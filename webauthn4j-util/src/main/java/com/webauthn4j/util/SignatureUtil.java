@@ -16,7 +16,6 @@
 
 package com.webauthn4j.util;
 
-import java.security.NoSuchAlgorithmException;
 import java.security.Signature;
 
 /**
@@ -40,11 +39,7 @@ public class SignatureUtil {
 
     public static Signature createSignature(String algorithm) {
         AssertUtil.notNull(algorithm, "algorithm is required; it must not be null");
-        try {
-            return Signature.getInstance(algorithm);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalArgumentException(e);
-        }
+        return CryptoEngineUtil.getCryptoEngineProvider().getSignature(algorithm);
     }
 
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import java.security.Provider;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link CryptoEngineProvider} which keeps idle engines per thread.
+ * <p>
+ * Engines are never shared between threads, so no synchronization is required on the hot path.
+ * A few idle engines are kept for each engine type and algorithm so that nested use on the same thread
+ * does not create an engine every time. Idle engines live as long as their thread.
+ */
+public class ThreadLocalCryptoEngineProvider extends AbstractPoolingCryptoEngineProvider {
+
+    private static final int DEFAULT_MAX_IDLE_PER_ALGORITHM = 2;
+
+    private final int maxIdlePerAlgorithm;
+    private final ThreadLocal<Map<Class<?>, Map<String, ArrayDeque<Object>>>> pools = ThreadLocal.withInitial(HashMap::new);
+
+    public ThreadLocalCryptoEngineProvider(Provider provider, int maxIdlePerAlgorithm) {
+        super(provider);
+        AssertUtil.isTrue(maxIdlePerAlgorithm > 0, "maxIdlePerAlgorithm must be positive");
+        this.maxIdlePerAlgorithm = maxIdlePerAlgorithm;
+    }
+
+    public ThreadLocalCryptoEngineProvider(String providerName, int maxIdlePerAlgorithm) {
+        this(getRegisteredProvider(providerName), maxIdlePerAlgorithm);
+    }
+
+    public ThreadLocalCryptoEngineProvider(int maxIdlePerAlgorithm) {
+        this((Provider) null, maxIdlePerAlgorithm);
+    }
+
+    public ThreadLocalCryptoEngineProvider() {
+        this(DEFAULT_MAX_IDLE_PER_ALGORITHM);
+    }
+
+    @Override
+    protected <T> T poll(Class<T> engineType, String algorithm) {
+        Map<String, ArrayDeque<Object>> pool = pools.get().get(engineType);
+        if (pool == null) {
+            return null;
+        }
+        ArrayDeque<Object> deque = pool.get(algorithm);
+        if (deque == null) {
+            return null;
+        }
+        return engineType.cast(deque.pollFirst());
+    }
+
+    @Override
+    protected <T> void offer(Class<T> engineType, String algorithm, T engine) {
+        Map<String, ArrayDeque<Object>> pool = pools.get().computeIfAbsent(engineType, key -> new HashMap<>());
+        ArrayDeque<Object> deque = pool.computeIfAbsent(algorithm, key -> new ArrayDeque<>());
+        if (deque.size() < maxIdlePerAlgorithm) {
+            deque.offerFirst(engine);
+        }
+    }
+
+    public int getMaxIdlePerAlgorithm() {
+        return maxIdlePerAlgorithm;
+    }
+}
@@ -37,4 +37,12 @@ class Base64UrlUtilTest {
         byte[] result = Base64UrlUtil.decode(data);
         assertThat(result).isEqualTo(expected);
     }
+
+    @Test
+    void decode_range_test() {
+        byte[] data = new byte[]{0x22, 0x41, 0x53, 0x4E, 0x46, 0x22};
+        byte[] expected = new byte[]{0x01, 0x23, 0x45};
+        byte[] result = Base64UrlUtil.decode(data, 1, 4);
+        assertThat(result).isEqualTo(expected);
+    }
 }
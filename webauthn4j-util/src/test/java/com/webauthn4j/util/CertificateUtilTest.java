@@ -16,6 +16,7 @@
 
 package com.webauthn4j.util;
 
+import com.webauthn4j.test.TestAttestationUtil;
 import org.junit.jupiter.api.Test;
 
 import java.security.cert.CertPathValidator;
@@ -57,4 +58,22 @@ class CertificateUtilTest {
     void createKeystore_test() {
         CertificateUtil.createKeyStore();
     }
+
+    @Test
+    void getSubjectKeyIdentifier_test() {
+        X509Certificate certificate = TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate();
+        assertThat(CertificateUtil.getSubjectKeyIdentifier(certificate)).isEqualTo(HexUtil.decode("B70B6DCCA71562C4C00D93F22DF69E585377E1AC"));
+    }
+
+    @Test
+    void getSubjectKeyIdentifier_without_extension_test() {
+        X509Certificate certificate = TestAttestationUtil.load3tierTestRootCACertificate();
+        assertThat(CertificateUtil.getSubjectKeyIdentifier(certificate)).isNull();
+    }
+
+    @Test
+    void getAuthorityKeyIdentifier_without_extension_test() {
+        X509Certificate certificate = TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate();
+        assertThat(CertificateUtil.getAuthorityKeyIdentifier(certificate)).isNull();
+    }
 }
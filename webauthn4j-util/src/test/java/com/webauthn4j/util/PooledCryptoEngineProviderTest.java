@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import java.security.MessageDigest;
+import java.security.Security;
+import java.security.Signature;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PooledCryptoEngineProviderTest {
+
+    private final PooledCryptoEngineProvider target = new PooledCryptoEngineProvider();
+
+    @Test
+    void released_engine_is_reused_test() {
+        Signature signature = target.getSignature("SHA256withECDSA");
+        target.release(signature);
+        assertThat(target.getSignature("SHA256withECDSA")).isSameAs(signature);
+    }
+
+    @Test
+    void engine_is_not_shared_between_algorithms_test() {
+        MessageDigest messageDigest = target.getMessageDigest("SHA-256");
+        target.release(messageDigest);
+        assertThat(target.getMessageDigest("SHA-512")).isNotSameAs(messageDigest);
+    }
+
+    @Test
+    void released_message_digest_is_reset_test() {
+        MessageDigest messageDigest = target.getMessageDigest("SHA-256");
+        byte[] expected = messageDigest.digest(new byte[]{0x01});
+        messageDigest.update(new byte[]{0x02});
+        target.release(messageDigest);
+        assertThat(target.getMessageDigest("SHA-256").digest(new byte[]{0x01})).isEqualTo(expected);
+    }
+
+    @Test
+    void released_engine_is_discarded_when_pool_is_full_test() {
+        PooledCryptoEngineProvider pooledCryptoEngineProvider = new PooledCryptoEngineProvider(1);
+        MessageDigest messageDigest1 = pooledCryptoEngineProvider.getMessageDigest("SHA-256");
+        MessageDigest messageDigest2 = pooledCryptoEngineProvider.getMessageDigest("SHA-256");
+        pooledCryptoEngineProvider.release(messageDigest1);
+        pooledCryptoEngineProvider.release(messageDigest2);
+        assertThat(pooledCryptoEngineProvider.getMessageDigest("SHA-256")).isSameAs(messageDigest1);
+        assertThat(pooledCryptoEngineProvider.getMessageDigest("SHA-256")).isNotSameAs(messageDigest2);
+    }
+
+    @Test
+    void mac_is_not_pooled_test() {
+        Mac mac = target.getMac("HmacSHA256");
+        target.release(mac);
+        assertThat(target.getMac("HmacSHA256")).isNotSameAs(mac);
+    }
+
+    @Test
+    void provider_test() {
+        PooledCryptoEngineProvider pooledCryptoEngineProvider = new PooledCryptoEngineProvider("SUN", 1);
+        assertThat(pooledCryptoEngineProvider.getMessageDigest("SHA-256").getProvider()).isEqualTo(Security.getProvider("SUN"));
+    }
+
+    @Test
+    void unregistered_provider_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PooledCryptoEngineProvider("dummyProvider", 1)
+        );
+    }
+
+    @Test
+    void unsupported_algorithm_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> target.getSignature("dummyAlg")
+        );
+    }
+}